@@ -23,6 +23,11 @@ trait JmhModule extends JavaModule with TaskModule {
     runBenchmark(a: _*)
   }
 
+  def runBenchmarkWithGc(args: String*) = T.command {
+    val a = args.toList ++ List("-prof", "gc")
+    runBenchmark(a: _*)
+  }
+
   def runBenchmarkWithPerfAsm(args: String*) = T.command {
     val a = args.toList ++ List("-prof", "perfasm")
     runBenchmark(a: _*)
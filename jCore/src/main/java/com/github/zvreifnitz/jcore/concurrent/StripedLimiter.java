@@ -0,0 +1,250 @@
+package com.github.zvreifnitz.jcore.concurrent;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import jdk.internal.vm.annotation.Contended;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+
+public final class StripedLimiter {
+
+    public static final int NONE = -1;
+    private static final int SPREAD = -2;
+
+    private final long limit;
+    private final long stripeLimit;
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long[] scratch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = this.lock.newCondition();
+    private long[][] spreads = new long[1][];
+    private volatile int waiters;
+
+    public StripedLimiter(final long limit) {
+        checkArgument(limit > 0L, "limit", "Value must be positive.");
+        this.limit = limit;
+        final int count = stripeCount(limit);
+        this.stripes = new Stripe[count];
+        this.mask = count - 1;
+        this.stripeLimit = limit / count;
+        this.scratch = new long[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe((limit / count) + ((i < (limit % count)) ? 1L : 0L));
+        }
+    }
+
+    private static int stripeCount(final long limit) {
+        final int cpus = Runtime.getRuntime().availableProcessors();
+        int count = 1;
+        while ((count < cpus) && ((count << 1) <= limit)) {
+            count <<= 1;
+        }
+        return count;
+    }
+
+    private static int probe() {
+        final long id = Thread.currentThread().getId();
+        final int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public final long getLimit() {
+        return this.limit;
+    }
+
+    public final int tryAcquire(final long weight) {
+        checkArgument(weight >= 0L, "weight", "Value must not be negative.");
+        if (weight > this.limit) {
+            return NONE;
+        }
+        final int start = probe();
+        for (int i = 0; i <= this.mask; i++) {
+            final int index = (start + i) & this.mask;
+            if (this.stripes[index].tryAcquire(weight)) {
+                return index;
+            }
+        }
+        if ((this.mask == 0) || (weight <= this.stripeLimit) || (this.getFree() < weight)) {
+            return NONE;
+        }
+        return this.trySpread(weight);
+    }
+
+    public final int acquire(final long weight) throws InterruptedException {
+        checkArgument(weight <= this.limit, "weight", "Value must not exceed the limit.");
+        final int fast = this.tryAcquire(weight);
+        if (fast != NONE) {
+            return fast;
+        }
+        this.lock.lockInterruptibly();
+        try {
+            this.waiters++;
+            try {
+                int index;
+                while ((index = this.tryAcquire(weight)) == NONE) {
+                    this.released.await();
+                }
+                return index;
+            } finally {
+                this.waiters--;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public final int forceAcquire(final long weight) {
+        checkArgument(weight >= 0L, "weight", "Value must not be negative.");
+        final int index = probe() & this.mask;
+        this.stripes[index].forceAcquire(weight);
+        return index;
+    }
+
+    public final void release(final int index, final long weight) {
+        if (index == NONE) {
+            return;
+        }
+        if (index <= SPREAD) {
+            this.releaseSpread(SPREAD - index);
+        } else {
+            this.stripes[index].release(weight);
+        }
+        if (this.waiters > 0) {
+            this.lock.lock();
+            try {
+                this.released.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private int trySpread(final long weight) {
+        this.lock.lock();
+        try {
+            final long[] taken = this.scratch;
+            long remaining = weight;
+            for (int i = 0; (i < this.stripes.length) && (remaining > 0L); i++) {
+                taken[i] = this.stripes[i].tryAcquireUpTo(remaining);
+                remaining -= taken[i];
+            }
+            if (remaining == 0L) {
+                return SPREAD - this.register(taken.clone());
+            }
+            for (int i = 0; i < this.stripes.length; i++) {
+                if (taken[i] > 0L) {
+                    this.stripes[i].release(taken[i]);
+                }
+            }
+            return NONE;
+        } finally {
+            Arrays.fill(this.scratch, 0L);
+            this.lock.unlock();
+        }
+    }
+
+    private int register(final long[] taken) {
+        for (int i = 0; i < this.spreads.length; i++) {
+            if (this.spreads[i] == null) {
+                this.spreads[i] = taken;
+                return i;
+            }
+        }
+        final int slot = this.spreads.length;
+        this.spreads = Arrays.copyOf(this.spreads, slot << 1);
+        this.spreads[slot] = taken;
+        return slot;
+    }
+
+    private void releaseSpread(final int slot) {
+        final long[] taken;
+        this.lock.lock();
+        try {
+            taken = this.spreads[slot];
+            this.spreads[slot] = null;
+        } finally {
+            this.lock.unlock();
+        }
+        for (int i = 0; i < taken.length; i++) {
+            if (taken[i] > 0L) {
+                this.stripes[i].release(taken[i]);
+            }
+        }
+    }
+
+    private long getFree() {
+        long result = 0L;
+        for (final Stripe stripe : this.stripes) {
+            result += Math.max(0L, stripe.limit - stripe.used);
+        }
+        return result;
+    }
+
+    public final long getUsed() {
+        long result = 0L;
+        for (final Stripe stripe : this.stripes) {
+            result += stripe.used;
+        }
+        return result;
+    }
+
+    @Contended
+    private static final class Stripe {
+
+        private static final VarHandle USED;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                USED = l.findVarHandle(Stripe.class, "used", Long.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final long limit;
+        private volatile long used;
+
+        private Stripe(final long limit) {
+            this.limit = limit;
+        }
+
+        private boolean tryAcquire(final long weight) {
+            long current;
+            do {
+                current = this.used;
+                if (current + weight > this.limit) {
+                    return false;
+                }
+            } while (!USED.weakCompareAndSet(this, current, current + weight));
+            return true;
+        }
+
+        private long tryAcquireUpTo(final long weight) {
+            long current;
+            long charge;
+            do {
+                current = this.used;
+                charge = Math.min(weight, this.limit - current);
+                if (charge <= 0L) {
+                    return 0L;
+                }
+            } while (!USED.weakCompareAndSet(this, current, current + charge));
+            return charge;
+        }
+
+        private void forceAcquire(final long weight) {
+            USED.getAndAdd(this, weight);
+        }
+
+        private void release(final long weight) {
+            USED.getAndAdd(this, -weight);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.zvreifnitz.jcore.pool;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+import static com.github.zvreifnitz.jcore.Preconditions.checkState;
+
+public final class Recycler<T> {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final Function<Handle<T>, T> factory;
+    private final ThreadLocal<Stack<T>> stacks;
+
+    public Recycler(final Function<Handle<T>, T> factory) {
+        this(DEFAULT_CAPACITY, factory);
+    }
+
+    public Recycler(final int capacity, final Function<Handle<T>, T> factory) {
+        checkArgument(capacity > 0, "capacity", "Value must be positive.");
+        checkNullPointer(factory, "factory");
+        this.capacity = capacity;
+        this.factory = factory;
+        this.stacks = ThreadLocal.withInitial(() -> new Stack<>(this));
+    }
+
+    public final T get() {
+        final Stack<T> stack = this.stacks.get();
+        DefaultHandle<T> handle = stack.pop();
+        if (handle == null) {
+            handle = new DefaultHandle<>(stack);
+            handle.value = this.factory.apply(handle);
+        }
+        handle.state = DefaultHandle.IN_USE;
+        return handle.value;
+    }
+
+    public final int getCapacity() {
+        return this.capacity;
+    }
+
+    public interface Handle<T> {
+        void recycle(final T value);
+    }
+
+    private static final class Stack<T> {
+
+        private static final VarHandle FOREIGN;
+        private static final VarHandle FOREIGN_SIZE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                FOREIGN = l.findVarHandle(Stack.class, "foreign", DefaultHandle.class);
+                FOREIGN_SIZE = l.findVarHandle(Stack.class, "foreignSize", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Recycler<T> recycler;
+        private final DefaultHandle<T>[] elements;
+        private int size;
+        private volatile DefaultHandle<T> foreign;
+        private volatile int foreignSize;
+
+        @SuppressWarnings("unchecked")
+        private Stack(final Recycler<T> recycler) {
+            this.recycler = recycler;
+            this.elements = (DefaultHandle<T>[]) new DefaultHandle<?>[recycler.capacity];
+        }
+
+        private DefaultHandle<T> pop() {
+            if ((this.size == 0) && !this.drain()) {
+                return null;
+            }
+            final int index = --this.size;
+            final DefaultHandle<T> handle = this.elements[index];
+            this.elements[index] = null;
+            return handle;
+        }
+
+        private void push(final DefaultHandle<T> handle) {
+            if (this.recycler.stacks.get() == this) {
+                if (this.size < this.elements.length) {
+                    this.elements[this.size++] = handle;
+                }
+                return;
+            }
+            if (((int) FOREIGN_SIZE.getAndAdd(this, 1)) >= this.elements.length) {
+                FOREIGN_SIZE.getAndAdd(this, -1);
+                return;
+            }
+            DefaultHandle<T> current;
+            do {
+                current = this.foreign;
+                handle.next = current;
+            } while (!FOREIGN.weakCompareAndSet(this, current, handle));
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drain() {
+            if (this.foreign == null) {
+                return false;
+            }
+            DefaultHandle<T> handle = (DefaultHandle<T>) FOREIGN.getAndSet(this, null);
+            int count = 0;
+            while (handle != null) {
+                final DefaultHandle<T> next = handle.next;
+                handle.next = null;
+                if (this.size < this.elements.length) {
+                    this.elements[this.size++] = handle;
+                }
+                handle = next;
+                count++;
+            }
+            FOREIGN_SIZE.getAndAdd(this, -count);
+            return (this.size > 0);
+        }
+    }
+
+    private static final class DefaultHandle<T> implements Handle<T> {
+
+        private static final int RECYCLED = 0;
+        private static final int IN_USE = 1;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                STATE = l.findVarHandle(DefaultHandle.class, "state", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Stack<T> stack;
+        private T value;
+        private DefaultHandle<T> next;
+        private volatile int state;
+
+        private DefaultHandle(final Stack<T> stack) {
+            this.stack = stack;
+        }
+
+        @Override
+        public final void recycle(final T value) {
+            checkState(value == this.value, "Object does not belong to handle.");
+            checkState(STATE.compareAndSet(this, IN_USE, RECYCLED), "Object already recycled.");
+            this.stack.push(this);
+        }
+    }
+}
@@ -2,10 +2,18 @@ package com.github.zvreifnitz.jpipeline;
 
 import com.github.zvreifnitz.jpipeline.builder.impl.Builder;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.pipeline.ExecutionMode;
+import com.github.zvreifnitz.jpipeline.pipeline.OverflowPolicy;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineOptions;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 public interface Pipeline<T, R> extends PipelineStep<T, R>, AutoCloseable {
 
@@ -27,18 +35,78 @@ public interface Pipeline<T, R> extends PipelineStep<T, R>, AutoCloseable {
         return Builder.build(name, builder, executor);
     }
 
+    static <T, R> Pipeline<T, R> build(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final RunIdGenerator runIdGenerator) {
+        return Builder.build(name, builder, executor, runIdGenerator);
+    }
+
+    static <T, R> Pipeline<T, R> build(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final ExecutionMode mode) {
+        return Builder.build(name, builder, executor, mode);
+    }
+
+    static <T, R> Pipeline<T, R> build(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final PipelineOptions options) {
+        return Builder.build(name, builder, executor, options);
+    }
+
+    static <T, R> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final OverflowPolicy policy) {
+        return Builder.bounded(name, builder, executor, maxRuns, policy);
+    }
+
+    static <T, R> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy) {
+        return Builder.bounded(name, builder, executor, maxRuns, weigher, maxWeight, policy);
+    }
+
+    static <T, R> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final OverflowPolicy policy, final PipelineOptions options) {
+        return Builder.bounded(name, builder, executor, maxRuns, policy, options);
+    }
+
+    static <T, R> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy,
+            final PipelineOptions options) {
+        return Builder.bounded(name, builder, executor, maxRuns, weigher, maxWeight, policy, options);
+    }
+
     default Future<R> execute(final T input) {
         return this.execute(null, input);
     }
 
     Future<R> execute(final String runId, final T input);
 
+    Future<R> execute(final String runId, final T input, final long timeout, final TimeUnit timeUnit);
+
+    default CompletableFuture<R> executeCompletable(final T input) {
+        return this.executeCompletable(null, input);
+    }
+
+    CompletableFuture<R> executeCompletable(final String runId, final T input);
+
+    CompletableFuture<R> executeCompletable(
+            final String runId, final T input, final long timeout, final TimeUnit timeUnit);
+
     default void executeAsync(final T input, final Consumer<Future<R>> consumer) {
         this.executeAsync(null, input, consumer);
     }
 
     void executeAsync(final String runId, final T input, final Consumer<Future<R>> consumer);
 
+    Future<List<R>> executeAll(final List<? extends T> inputs);
+
+    void executeAllAsync(final List<? extends T> inputs, final Consumer<Future<List<R>>> consumer);
+
+    PipelineStats getStats();
+
     @Override
     void close();
 }
@@ -8,6 +8,8 @@ import java.util.function.Supplier;
 
 public interface PipelineEntry<T, R> extends Consumer<R>, Value<T>, Supplier<T> {
 
+    long NO_DEADLINE = Long.MAX_VALUE;
+
     @Override
     String getRunId();
 
@@ -34,4 +36,15 @@ public interface PipelineEntry<T, R> extends Consumer<R>, Value<T>, Supplier<T>
     boolean tryRetry();
 
     boolean tryRetry(final long time, final TimeUnit timeUnit);
+
+    default boolean isCancelled() {
+        return false;
+    }
+
+    default void onCancel(final Runnable callback) {
+    }
+
+    default long getDeadline() {
+        return NO_DEADLINE;
+    }
 }
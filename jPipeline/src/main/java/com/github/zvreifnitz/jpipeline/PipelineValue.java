@@ -13,6 +13,12 @@ public final class PipelineValue<T> extends AbstractValue<T> {
         this.step = step;
     }
 
+    public PipelineValue(final String pipeline, final String step, final RunId runId, final T value) {
+        super(runId, value);
+        this.pipeline = pipeline;
+        this.step = step;
+    }
+
     public final String getPipeline() {
         return this.pipeline;
     }
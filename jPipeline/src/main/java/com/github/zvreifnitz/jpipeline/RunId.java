@@ -0,0 +1,38 @@
+package com.github.zvreifnitz.jpipeline;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+
+public interface RunId {
+
+    static RunId of(final String value) {
+        checkNullPointer(value, "value");
+        return new StringRunId(value);
+    }
+
+    @Override
+    String toString();
+
+    final class StringRunId implements RunId {
+
+        private final String value;
+
+        private StringRunId(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public final boolean equals(final Object o) {
+            return (this == o) || ((o instanceof StringRunId) && this.value.equals(((StringRunId) o).value));
+        }
+
+        @Override
+        public final int hashCode() {
+            return this.value.hashCode();
+        }
+
+        @Override
+        public final String toString() {
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.zvreifnitz.jpipeline;
+
+@FunctionalInterface
+public interface RunIdGenerator {
+    RunId next();
+}
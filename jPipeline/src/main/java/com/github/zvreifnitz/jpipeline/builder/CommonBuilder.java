@@ -6,6 +6,8 @@ import com.github.zvreifnitz.jpipeline.PipelineStep;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 
@@ -123,4 +125,28 @@ public interface CommonBuilder<T, R> {
 
     <N> SequentialBuilder<T, N> addOrderedStep(
             final String name, final PipelineStep<R, N> step);
+
+    default <N> SequentialBuilder<T, N> addOrderedStep(final PipelineStep<R, N> step, final int window) {
+        return this.addOrderedStep("", step, window);
+    }
+
+    <N> SequentialBuilder<T, N> addOrderedStep(
+            final String name, final PipelineStep<R, N> step, final int window);
+
+    default <N> SequentialBuilder<T, N> addKeyedOrderedStep(
+            final Function<R, ?> keyFn, final PipelineStep<R, N> step) {
+        return this.addKeyedOrderedStep("", keyFn, step);
+    }
+
+    <N> SequentialBuilder<T, N> addKeyedOrderedStep(
+            final String name, final Function<R, ?> keyFn, final PipelineStep<R, N> step);
+
+    default <N> SequentialBuilder<T, N> addBatchingStep(
+            final int maxSize, final long maxDelay, final TimeUnit timeUnit, final Function<List<R>, List<N>> func) {
+        return this.addBatchingStep("", maxSize, maxDelay, timeUnit, func);
+    }
+
+    <N> SequentialBuilder<T, N> addBatchingStep(
+            final String name, final int maxSize, final long maxDelay, final TimeUnit timeUnit,
+            final Function<List<R>, List<N>> func);
 }
@@ -87,7 +87,7 @@ public interface Merger<T, X, R> {
         @Override
         public final R1 apply(final Value<T1> t, final X1 x) {
             final R1 r = this.merger.apply(t, x);
-            Funcs.peek(this.pipelineName, this.stepName, t.getRunId(), r, this.mapper, this.consumer);
+            Funcs.peek(this.pipelineName, this.stepName, t.getRunKey(), r, this.mapper, this.consumer);
             return r;
         }
     }
@@ -0,0 +1,21 @@
+package com.github.zvreifnitz.jpipeline.builder;
+
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+
+import java.util.List;
+import java.util.function.Function;
+
+public interface QuorumBuilder<T, I, X> {
+
+    default QuorumBuilder<T, I, X> addQuorumStep(final PipelineStep<I, X> step) {
+        return this.addQuorumStep("", step);
+    }
+
+    QuorumBuilder<T, I, X> addQuorumStep(final String name, final PipelineStep<I, X> step);
+
+    default SequentialBuilder<T, X> joinFirst() {
+        return this.joinQuorum(1, results -> results.get(0));
+    }
+
+    <R> SequentialBuilder<T, R> joinQuorum(final int quorum, final Function<List<X>, R> merger);
+}
@@ -5,9 +5,14 @@ import com.github.zvreifnitz.jpipeline.PipelineStep;
 import com.github.zvreifnitz.jpipeline.PipelineValue;
 import com.github.zvreifnitz.jpipeline.utils.Funcs;
 
+import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
 
 public interface SequentialBuilder<T, R> extends CommonBuilder<T, R> {
 
@@ -27,6 +32,50 @@ public interface SequentialBuilder<T, R> extends CommonBuilder<T, R> {
     <N, X> ParallelBuilder<T, R, N> addParallelStep(
             final String name, final PipelineStep<R, X> step, final BiFunction<R, X, N> merger);
 
+    default <X> SequentialBuilder<T, X> addParallelReduceStep(
+            final List<PipelineStep<R, X>> steps, final BinaryOperator<X> reducer) {
+        return this.addParallelReduceStep("", steps, reducer);
+    }
+
+    <X> SequentialBuilder<T, X> addParallelReduceStep(
+            final String name, final List<PipelineStep<R, X>> steps, final BinaryOperator<X> reducer);
+
+    default <X> QuorumBuilder<T, R, X> addQuorumStep(final PipelineStep<R, X> step) {
+        return this.addQuorumStep("", step);
+    }
+
+    <X> QuorumBuilder<T, R, X> addQuorumStep(final String name, final PipelineStep<R, X> step);
+
+    default <E, Y, X> SequentialBuilder<T, X> buildScatterGatherStep(
+            final Function<R, List<E>> splitter, final PipelineBuilder<E, Y> elementBuilder,
+            final BiFunction<R, List<Y>, X> gatherer) {
+        return this.buildScatterGatherStep("", splitter, elementBuilder, gatherer);
+    }
+
+    <E, Y, X> SequentialBuilder<T, X> buildScatterGatherStep(
+            final String name, final Function<R, List<E>> splitter,
+            final PipelineBuilder<E, Y> elementBuilder, final BiFunction<R, List<Y>, X> gatherer);
+
+    default <X> SequentialBuilder<T, X> addParallelReplicas(
+            final int replicas, final PipelineStep<R, X> step, final BinaryOperator<X> reducer) {
+        return this.addParallelReplicas("", replicas, step, reducer);
+    }
+
+    default <X> SequentialBuilder<T, X> addParallelReplicas(
+            final String name, final int replicas, final PipelineStep<R, X> step, final BinaryOperator<X> reducer) {
+        checkArgument(replicas > 0, "replicas", "Value must be positive.");
+        return this.addParallelReplicas(name, input -> replicas, step, reducer);
+    }
+
+    default <X> SequentialBuilder<T, X> addParallelReplicas(
+            final ToIntFunction<R> replicas, final PipelineStep<R, X> step, final BinaryOperator<X> reducer) {
+        return this.addParallelReplicas("", replicas, step, reducer);
+    }
+
+    <X> SequentialBuilder<T, X> addParallelReplicas(
+            final String name, final ToIntFunction<R> replicas,
+            final PipelineStep<R, X> step, final BinaryOperator<X> reducer);
+
     default SequentialBuilder<T, R> peek(final Consumer<PipelineValue<R>> consumer) {
         return this.peek(Funcs.identityFunc(), consumer);
     }
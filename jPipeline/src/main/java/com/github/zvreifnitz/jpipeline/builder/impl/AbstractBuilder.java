@@ -1,14 +1,13 @@
 package com.github.zvreifnitz.jpipeline.builder.impl;
 
 import com.github.zvreifnitz.jpipeline.PipelineBuilder;
-import com.github.zvreifnitz.jpipeline.PipelineStep;
 import com.github.zvreifnitz.jpipeline.builder.CommonBuilder;
 import com.github.zvreifnitz.jpipeline.builder.ParallelBuilder;
 import com.github.zvreifnitz.jpipeline.builder.SequentialBuilder;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 import com.github.zvreifnitz.jpipeline.runnable.impl.RunnableFactories;
-import com.github.zvreifnitz.jpipeline.step.Steps;
+import com.github.zvreifnitz.jpipeline.step.SyncStep;
 
 abstract class AbstractBuilder<T, R> implements CommonBuilder<T, R> {
 
@@ -35,20 +34,6 @@ abstract class AbstractBuilder<T, R> implements CommonBuilder<T, R> {
         return pipelineName + "." + stepName;
     }
 
-    static <T, R> PipelineStep<T, R> convertToStep(
-            final String name, final AbstractBuilder<?, ?> prev, final PipelineBuilder<T, R> builder) {
-        return convertToStep(prev.pipelineName, name, prev.executor, builder);
-    }
-
-    static <T, R> PipelineStep<T, R> convertToStep(
-            final String pipelineName, final String stepName,
-            final PipelineExecutor executor, final PipelineBuilder<T, R> builder) {
-        final RunnableFactory<T, R> factory = AbstractBuilder.buildRunnableFactory(
-                AbstractBuilder.pipelineName(pipelineName, stepName),
-                executor, builder, RunnableFactories.create());
-        return Steps.step(factory);
-    }
-
     final <P, F> RunnableFactory<P, F> buildRunnableFactory(
             final String pipelineName, final PipelineBuilder<P, R> builder, final RunnableFactory<R, F> next) {
         return buildRunnableFactory(pipelineName, this.executor, builder, next);
@@ -58,6 +43,11 @@ abstract class AbstractBuilder<T, R> implements CommonBuilder<T, R> {
 
     abstract <F> RunnableFactory<T, F> buildRunnableFactory(final RunnableFactory<R, F> next);
 
+    <X, F> RunnableFactory<T, F> buildFusedRunnableFactory(
+            final SyncStep<R, X> step, final RunnableFactory<X, F> next) {
+        return this.buildRunnableFactory(RunnableFactories.create(this.executor, step, next));
+    }
+
     abstract static class Sequential<T1, R1>
             extends AbstractBuilder<T1, R1>
             implements SequentialBuilder<T1, R1> {
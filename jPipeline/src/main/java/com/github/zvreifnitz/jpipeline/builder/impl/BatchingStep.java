@@ -0,0 +1,162 @@
+package com.github.zvreifnitz.jpipeline.builder.impl;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class BatchingStep<T, R> implements PipelineStep<T, R> {
+
+    private static final VarHandle CURRENT;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            CURRENT = l.findVarHandle(BatchingStep.class, "current", Batch.class);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final int maxSize;
+    private final long maxDelayNanos;
+    private final Function<List<T>, List<R>> func;
+    private final PipelineExecutor executor;
+    private volatile Batch<T, R> current;
+
+    BatchingStep(
+            final int maxSize, final long maxDelayNanos,
+            final Function<List<T>, List<R>> func, final PipelineExecutor executor) {
+        this.maxSize = maxSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.func = func;
+        this.executor = executor;
+        this.current = new Batch<>(this);
+    }
+
+    @Override
+    public final void process(final PipelineEntry<T, R> entry) {
+        while (true) {
+            final Batch<T, R> batch = this.current;
+            final int index = batch.claim();
+            if (index >= this.maxSize) {
+                this.rotate(batch);
+                continue;
+            }
+            batch.set(index, entry);
+            if (index == (this.maxSize - 1)) {
+                this.rotate(batch);
+                batch.flush(this.maxSize);
+            } else if (index == 0) {
+                batch.timer = this.executor.scheduleCancellable(batch, this.maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+            return;
+        }
+    }
+
+    private void rotate(final Batch<T, R> batch) {
+        if (this.current == batch) {
+            CURRENT.compareAndSet(this, batch, new Batch<>(this));
+        }
+    }
+
+    private static final class Batch<T, R> implements Runnable {
+
+        private static final VarHandle CLAIMED;
+        private static final VarHandle ENTRIES = MethodHandles.arrayElementVarHandle(PipelineEntry[].class);
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                CLAIMED = l.findVarHandle(Batch.class, "claimed", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final BatchingStep<T, R> owner;
+        private final PipelineEntry<T, R>[] entries;
+        private volatile Cancellable timer = Cancellable.NONE;
+        private volatile int claimed;
+
+        @SuppressWarnings("unchecked")
+        private Batch(final BatchingStep<T, R> owner) {
+            this.owner = owner;
+            this.entries = (PipelineEntry<T, R>[]) new PipelineEntry<?, ?>[owner.maxSize];
+        }
+
+        private int claim() {
+            return (int) CLAIMED.getAndAdd(this, 1);
+        }
+
+        private void set(final int index, final PipelineEntry<T, R> entry) {
+            ENTRIES.setRelease(this.entries, index, entry);
+        }
+
+        @SuppressWarnings("unchecked")
+        private PipelineEntry<T, R> get(final int index) {
+            PipelineEntry<T, R> entry;
+            while ((entry = (PipelineEntry<T, R>) ENTRIES.getAcquire(this.entries, index)) == null) {
+                Thread.onSpinWait();
+            }
+            return entry;
+        }
+
+        @Override
+        public final void run() {
+            final int size = (int) CLAIMED.getAndAdd(this, this.owner.maxSize);
+            if (size >= this.owner.maxSize) {
+                return;
+            }
+            this.owner.rotate(this);
+            this.flush(size);
+        }
+
+        private void flush(final int size) {
+            this.timer.cancel();
+            final List<PipelineEntry<T, R>> entries = new ArrayList<>(size);
+            final List<T> inputs = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final PipelineEntry<T, R> entry = this.get(i);
+                this.entries[i] = null;
+                if (!entry.isCancelled()) {
+                    entries.add(entry);
+                    inputs.add(entry.get());
+                }
+            }
+            if (entries.isEmpty()) {
+                return;
+            }
+            final List<R> results;
+            try {
+                results = this.owner.func.apply(inputs);
+                if ((results == null) || (results.size() != entries.size())) {
+                    Exceptions.throwIllegalState("Batch function must return one result per input");
+                }
+            } catch (final Throwable exception) {
+                for (final PipelineEntry<T, R> entry : entries) {
+                    entry.tryStop(exception);
+                }
+                Exceptions.rethrowIfError(exception);
+                return;
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                final PipelineEntry<T, R> entry = entries.get(i);
+                try {
+                    entry.tryAccept(results.get(i));
+                } catch (final Throwable exception) {
+                    entry.tryStop(exception);
+                    Exceptions.rethrowIfError(exception);
+                }
+            }
+        }
+    }
+}
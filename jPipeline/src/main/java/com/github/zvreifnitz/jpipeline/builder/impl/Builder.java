@@ -2,13 +2,18 @@ package com.github.zvreifnitz.jpipeline.builder.impl;
 
 import com.github.zvreifnitz.jpipeline.Pipeline;
 import com.github.zvreifnitz.jpipeline.PipelineBuilder;
+import com.github.zvreifnitz.jpipeline.RunIdGenerator;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutors;
+import com.github.zvreifnitz.jpipeline.pipeline.ExecutionMode;
+import com.github.zvreifnitz.jpipeline.pipeline.OverflowPolicy;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineOptions;
 import com.github.zvreifnitz.jpipeline.pipeline.Pipelines;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 import com.github.zvreifnitz.jpipeline.runnable.impl.RunnableFactories;
 
 import java.util.concurrent.Executor;
+import java.util.function.ToLongFunction;
 
 import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
 
@@ -19,12 +24,95 @@ public final class Builder {
 
     public static <R, T> Pipeline<T, R> build(
             final String name, final PipelineBuilder<T, R> builder, final Executor executor) {
+        final PipelineExecutor pipelineExecutor = toPipelineExecutor(name, builder, executor);
+        return Pipelines.unbounded(pipelineExecutor, buildRunnableFactory(name, builder, pipelineExecutor));
+    }
+
+    public static <R, T> Pipeline<T, R> build(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final RunIdGenerator runIdGenerator) {
+        checkNullPointer(runIdGenerator, "runIdGenerator");
+        return build(name, builder, executor, PipelineOptions.defaults().withRunIdGenerator(runIdGenerator));
+    }
+
+    public static <R, T> Pipeline<T, R> build(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final ExecutionMode mode) {
+        checkNullPointer(mode, "mode");
+        return build(name, builder, executor, PipelineOptions.defaults().withExecutionMode(mode));
+    }
+
+    public static <R, T> Pipeline<T, R> build(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final PipelineOptions options) {
+        checkNullPointer(options, "options");
+        final PipelineExecutor pipelineExecutor = toPipelineExecutor(name, builder, executor);
+        return Pipelines.unbounded(
+                pipelineExecutor, buildRunnableFactory(name, builder, pipelineExecutor, options), options);
+    }
+
+    public static <R, T> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final OverflowPolicy policy) {
+        final PipelineExecutor pipelineExecutor = toPipelineExecutor(name, builder, executor);
+        return Pipelines.bounded(pipelineExecutor,
+                buildRunnableFactory(name, builder, pipelineExecutor), maxRuns, policy);
+    }
+
+    public static <R, T> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy) {
+        final PipelineExecutor pipelineExecutor = toPipelineExecutor(name, builder, executor);
+        return Pipelines.bounded(pipelineExecutor,
+                buildRunnableFactory(name, builder, pipelineExecutor), maxRuns, weigher, maxWeight, policy);
+    }
+
+    public static <R, T> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final OverflowPolicy policy, final PipelineOptions options) {
+        checkNullPointer(options, "options");
+        final PipelineExecutor pipelineExecutor = toPipelineExecutor(name, builder, executor);
+        return Pipelines.bounded(pipelineExecutor,
+                buildRunnableFactory(name, builder, pipelineExecutor, options), maxRuns, policy, options);
+    }
+
+    public static <R, T> Pipeline<T, R> bounded(
+            final String name, final PipelineBuilder<T, R> builder, final Executor executor,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy,
+            final PipelineOptions options) {
+        checkNullPointer(options, "options");
+        final PipelineExecutor pipelineExecutor = toPipelineExecutor(name, builder, executor);
+        return Pipelines.bounded(pipelineExecutor,
+                buildRunnableFactory(name, builder, pipelineExecutor, options),
+                maxRuns, weigher, maxWeight, policy, options);
+    }
+
+    private static PipelineExecutor toPipelineExecutor(
+            final String name, final PipelineBuilder<?, ?> builder, final Executor executor) {
         checkNullPointer(name, "name");
         checkNullPointer(builder, "builder");
         checkNullPointer(executor, "executor");
-        final PipelineExecutor pipelineExecutor = PipelineExecutors.fromExecutor(executor);
-        final RunnableFactory<T, R> factory = AbstractBuilder.buildRunnableFactory(
-                name, pipelineExecutor, builder, RunnableFactories.create());
-        return Pipelines.unbounded(pipelineExecutor, factory);
+        return PipelineExecutors.fromExecutor(executor);
+    }
+
+    private static <R, T> RunnableFactory<T, R> buildRunnableFactory(
+            final String name, final PipelineBuilder<T, R> builder, final PipelineExecutor pipelineExecutor) {
+        return AbstractBuilder.buildRunnableFactory(name, pipelineExecutor, builder, RunnableFactories.create());
+    }
+
+    private static <R, T> RunnableFactory<T, R> buildRunnableFactory(
+            final String name, final PipelineBuilder<T, R> builder, final PipelineExecutor pipelineExecutor,
+            final PipelineOptions options) {
+        RunnableFactory<T, R> factory = buildRunnableFactory(name, builder, pipelineExecutor);
+        if (options.isRecycling()) {
+            factory = RunnableFactories.recycling(factory);
+        }
+        if (options.isAdaptiveParallelism()) {
+            factory = RunnableFactories.adaptive(factory);
+        }
+        if (options.getExecutionMode() == ExecutionMode.FRAME) {
+            factory = RunnableFactories.frames(factory);
+        }
+        return factory;
     }
 }
@@ -0,0 +1,200 @@
+package com.github.zvreifnitz.jpipeline.builder.impl;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.entry.EntryWrapper;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.utils.Funcs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class KeyedOrderStep<T, R> implements PipelineStep<T, R> {
+
+    private static final int MIN_STRIPES = 64;
+    private static final int STRIPES_PER_CORE = 16;
+    private static final VarHandle DONE;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            DONE = l.findVarHandle(KeyedOrderStep.Entry.class, "done", Integer.TYPE);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final Function<T, ?> keyFn;
+    private final PipelineStep<T, R> step;
+    private final PipelineExecutor executor;
+    private final Stripe[] stripes;
+
+    KeyedOrderStep(final Function<T, ?> keyFn, final PipelineStep<T, R> step, final PipelineExecutor executor) {
+        this.keyFn = keyFn;
+        this.step = step;
+        this.executor = executor;
+        final int stripes = Math.max(MIN_STRIPES, Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE);
+        this.stripes = new Stripe[Integer.highestOneBit(stripes - 1) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final void process(final PipelineEntry<T, R> entry) {
+        try {
+            final Object key = this.keyFn.apply(entry.get());
+            final int hash = (key == null) ? 0 : spread(key.hashCode());
+            final Stripe stripe = this.stripes[hash & (this.stripes.length - 1)];
+            final Entry first = (Entry) stripe.offer(new Entry(entry, stripe));
+            if (first != null) {
+                first.start();
+            }
+        } catch (final Throwable exception) {
+            entry.tryStop(exception);
+            Exceptions.rethrowIfError(exception);
+        }
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Node {
+
+        private Object entry;
+        private volatile Node next;
+
+        private Node(final Object entry) {
+            this.entry = entry;
+        }
+    }
+
+    private static final class Stripe {
+
+        private static final VarHandle TAIL;
+        private static final VarHandle COUNT;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                TAIL = l.findVarHandle(Stripe.class, "tail", Node.class);
+                COUNT = l.findVarHandle(Stripe.class, "count", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private Node head;
+        private volatile Node tail;
+        private volatile int count;
+
+        private Stripe() {
+            final Node stub = new Node(null);
+            this.head = stub;
+            this.tail = stub;
+        }
+
+        private Object offer(final Object entry) {
+            final Node node = new Node(entry);
+            final Node prev = (Node) TAIL.getAndSet(this, node);
+            prev.next = node;
+            return (((int) COUNT.getAndAdd(this, 1)) == 0) ? this.poll() : null;
+        }
+
+        private Object release() {
+            return (((int) COUNT.getAndAdd(this, -1)) > 1) ? this.poll() : null;
+        }
+
+        private Object poll() {
+            final Node head = this.head;
+            Node next;
+            while ((next = head.next) == null) {
+                Thread.onSpinWait();
+            }
+            this.head = next;
+            final Object entry = next.entry;
+            next.entry = null;
+            return entry;
+        }
+    }
+
+    private final class Entry extends EntryWrapper<T, T, R, R> {
+
+        private final Stripe stripe;
+        private volatile int done;
+
+        private Entry(final PipelineEntry<T, R> entry, final Stripe stripe) {
+            super(entry, Funcs::identity, Funcs::passThrough);
+            this.stripe = stripe;
+        }
+
+        private void start() {
+            if (this.entry.isCancelled()) {
+                this.cancel();
+                return;
+            }
+            this.entry.onCancel(this::cancel);
+            this.invoke();
+        }
+
+        private void cancel() {
+            this.tryStop(new CancellationException());
+        }
+
+        private void invoke() {
+            try {
+                KeyedOrderStep.this.step.process(this);
+            } catch (final Throwable exception) {
+                this.tryStop(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        @Override
+        public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
+            if (!DONE.compareAndSet(this, 0, 1)) {
+                return false;
+            }
+            try {
+                return super.tryAccept(result, time, timeUnit);
+            } finally {
+                this.release();
+            }
+        }
+
+        @Override
+        public final boolean tryStop(final Throwable throwable) {
+            if (!DONE.compareAndSet(this, 0, 1)) {
+                return false;
+            }
+            try {
+                return super.tryStop(throwable);
+            } finally {
+                this.release();
+            }
+        }
+
+        @Override
+        public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
+            if (this.done != 0) {
+                return false;
+            }
+            PipelineExecutor.executeOrSchedule(KeyedOrderStep.this.executor, this::invoke, time, timeUnit);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void release() {
+            final Entry next = (Entry) this.stripe.release();
+            if (next != null) {
+                KeyedOrderStep.this.executor.execute(next::start);
+            }
+        }
+    }
+}
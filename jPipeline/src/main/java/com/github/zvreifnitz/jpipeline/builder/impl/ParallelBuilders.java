@@ -5,16 +5,20 @@ import com.github.zvreifnitz.jpipeline.PipelineStep;
 import com.github.zvreifnitz.jpipeline.PipelineValue;
 import com.github.zvreifnitz.jpipeline.builder.Merger;
 import com.github.zvreifnitz.jpipeline.builder.ParallelBuilder;
+import com.github.zvreifnitz.jpipeline.builder.QuorumBuilder;
 import com.github.zvreifnitz.jpipeline.builder.SequentialBuilder;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
+import com.github.zvreifnitz.jpipeline.runnable.impl.RunnableFactories;
 import com.github.zvreifnitz.jpipeline.step.Steps;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
 import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
-import static com.github.zvreifnitz.jpipeline.builder.impl.AbstractBuilder.convertToStep;
 
 final class ParallelBuilders {
 
@@ -24,36 +28,75 @@ final class ParallelBuilders {
     static <T, I, R, X> AbstractBuilder.Parallel<T, I, R> step(
             final String name, final AbstractBuilder.Sequential<T, I> prev,
             final PipelineStep<I, X> step, final Merger<I, X, R> merger) {
-        return new InitParStepBuilder<>(name, prev, step, merger);
+        return new InitParStepBuilder<>(name, prev, ParallelRunnables.branch(step, prev.executor), merger);
     }
 
     static <T, I, R, X> AbstractBuilder.Parallel<T, I, R> step(
             final String name, final AbstractBuilder.Sequential<T, I> prev,
             final PipelineBuilder<I, X> builder, final Merger<I, X, R> merger) {
-        return new InitParStepBuilder<>(name, prev, convertToStep(name, prev, builder), merger);
+        return new InitParStepBuilder<>(name, prev, branch(name, prev, builder), merger);
     }
 
     private static <T, I, P, R, X> AbstractBuilder.Parallel<T, I, R> step(
             final String name, final AbstractParallelBuilder<T, I, P> prev,
             final PipelineStep<I, X> step, final Merger<P, X, R> merger) {
-        return new ParStepBuilder<>(name, prev, step, merger);
+        return new ParStepBuilder<>(name, prev, ParallelRunnables.branch(step, prev.executor), merger);
     }
 
     private static <T, I, P, R, X> AbstractBuilder.Parallel<T, I, R> step(
             final String name, final AbstractParallelBuilder<T, I, P> prev,
             final PipelineBuilder<I, X> builder, final Merger<P, X, R> merger) {
-        return new ParStepBuilder<>(name, prev, convertToStep(name, prev, builder), merger);
+        return new ParStepBuilder<>(name, prev, branch(name, prev, builder), merger);
+    }
+
+    static <T, I, X> AbstractBuilder.Sequential<T, X> reduce(
+            final String name, final AbstractBuilder.Sequential<T, I> prev,
+            final List<PipelineStep<I, X>> steps, final BinaryOperator<X> reducer) {
+        if (steps.size() == 1) {
+            return SequentialBuilders.step(name, prev, steps.get(0));
+        }
+        final List<ParallelRunnables.Branch<I, X>> branches = new ArrayList<>(steps.size());
+        for (final PipelineStep<I, X> step : steps) {
+            branches.add(ParallelRunnables.branch(step, prev.executor));
+        }
+        return SequentialBuilders.step(prev, ParallelRunnables.reduce(branches, reducer));
+    }
+
+    static <T, I, X> QuorumBuilder<T, I, X> quorum(
+            final AbstractBuilder.Sequential<T, I> prev, final PipelineStep<I, X> step) {
+        final List<ParallelRunnables.Branch<I, X>> branches = new ArrayList<>();
+        branches.add(ParallelRunnables.branch(step, prev.executor));
+        return new QuorumStepBuilder<>(prev, branches);
+    }
+
+    static <T, I, X> AbstractBuilder.Sequential<T, X> replicas(
+            final AbstractBuilder.Sequential<T, I> prev, final ToIntFunction<I> replicas,
+            final PipelineStep<I, X> step, final BinaryOperator<X> reducer) {
+        return SequentialBuilders.step(prev, ReplicaRunnables.create(step, replicas, reducer, prev.executor));
+    }
+
+    static <T, I, E, Y, X> AbstractBuilder.Sequential<T, X> scatter(
+            final String name, final AbstractBuilder.Sequential<T, I> prev, final Function<I, List<E>> splitter,
+            final PipelineBuilder<E, Y> elementBuilder, final BiFunction<I, List<Y>, X> gatherer) {
+        final RunnableFactory<E, Y> factory = AbstractBuilder.buildRunnableFactory(
+                AbstractBuilder.pipelineName(prev.pipelineName, name),
+                prev.executor, elementBuilder, RunnableFactories.create());
+        return SequentialBuilders.step(prev, ScatterRunnables.create(splitter, factory, gatherer, prev.executor));
+    }
+
+    private static <I, X> ParallelRunnables.Branch<I, X> branch(
+            final String name, final AbstractBuilder<?, ?> prev, final PipelineBuilder<I, X> builder) {
+        return ParallelRunnables.branch(AbstractBuilder.buildRunnableFactory(
+                AbstractBuilder.pipelineName(prev.pipelineName, name),
+                prev.executor, builder, RunnableFactories.create()));
     }
 
     private abstract static class AbstractParallelBuilder<T, I, R>
             extends AbstractBuilder.Parallel<T, I, R> {
 
-        private final boolean init;
-
         private AbstractParallelBuilder(
-                final String pipelineName, final String stepName, final boolean init, final PipelineExecutor executor) {
+                final String pipelineName, final String stepName, final PipelineExecutor executor) {
             super(pipelineName, stepName, executor);
-            this.init = init;
         }
 
         @Override
@@ -133,6 +176,25 @@ final class ParallelBuilders {
             return this.toSeq().addOrderedStep(name, step);
         }
 
+        @Override
+        public final <N> SequentialBuilder<T, N> addOrderedStep(
+                final String name, final PipelineStep<R, N> step, final int window) {
+            return this.toSeq().addOrderedStep(name, step, window);
+        }
+
+        @Override
+        public final <N> SequentialBuilder<T, N> addKeyedOrderedStep(
+                final String name, final Function<R, ?> keyFn, final PipelineStep<R, N> step) {
+            return this.toSeq().addKeyedOrderedStep(name, keyFn, step);
+        }
+
+        @Override
+        public final <N> SequentialBuilder<T, N> addBatchingStep(
+                final String name, final int maxSize, final long maxDelay, final TimeUnit timeUnit,
+                final Function<List<R>, List<N>> func) {
+            return this.toSeq().addBatchingStep(name, maxSize, maxDelay, timeUnit, func);
+        }
+
         @Override
         public final SequentialBuilder<T, R> join() {
             return this.toSeq();
@@ -149,11 +211,13 @@ final class ParallelBuilders {
         }
 
         private Sequential<T, R> toSeq() {
-            return this.init
+            return this.isSingleStep()
                     ? SequentialBuilders.step(this.stepName, this.getPrevSeq(), this.getStep())
                     : SequentialBuilders.step(this.getPrevSeq(), this.createParallelRunnables());
         }
 
+        abstract boolean isSingleStep();
+
         abstract PipelineStep<I, R> getStep();
 
         abstract Sequential<T, I> getPrevSeq();
@@ -165,15 +229,15 @@ final class ParallelBuilders {
             extends AbstractParallelBuilder<T, I, R> {
 
         private final Sequential<T, I> prev;
-        private final PipelineStep<I, X> step;
+        private final ParallelRunnables.Branch<I, X> branch;
         private final Merger<I, X, R> merger;
 
         private InitParStepBuilder(
                 final String name, final Sequential<T, I> prev,
-                final PipelineStep<I, X> step, final Merger<I, X, R> merger) {
-            super(prev.pipelineName, name, true, prev.executor);
+                final ParallelRunnables.Branch<I, X> branch, final Merger<I, X, R> merger) {
+            super(prev.pipelineName, name, prev.executor);
             this.prev = prev;
-            this.step = step;
+            this.branch = branch;
             this.merger = merger;
         }
 
@@ -181,13 +245,18 @@ final class ParallelBuilders {
         public final <N> ParallelBuilder<T, I, R> peek(final Function<R, N> mapper, final Consumer<PipelineValue<N>> consumer) {
             checkNullPointer(mapper, "mapper");
             checkNullPointer(consumer, "consumer");
-            return ParallelBuilders.step(this.stepName, this.prev, this.step,
+            return new InitParStepBuilder<>(this.stepName, this.prev, this.branch,
                     Merger.wrap(this.pipelineName, this.stepName, this.merger, mapper, consumer));
         }
 
+        @Override
+        final boolean isSingleStep() {
+            return this.branch.isStep();
+        }
+
         @Override
         final PipelineStep<I, R> getStep() {
-            return Steps.adapter(this.step, this.merger);
+            return Steps.adapter(this.branch.getStep(), this.merger);
         }
 
         @Override
@@ -197,7 +266,7 @@ final class ParallelBuilders {
 
         @Override
         final ParallelRunnables<I, R> createParallelRunnables() {
-            return ParallelRunnables.create(this.step, this.merger, this.executor);
+            return ParallelRunnables.create(this.branch, this.merger);
         }
     }
 
@@ -205,15 +274,15 @@ final class ParallelBuilders {
             extends AbstractParallelBuilder<T, I, R> {
 
         private final AbstractParallelBuilder<T, I, P> prev;
-        private final PipelineStep<I, X> step;
+        private final ParallelRunnables.Branch<I, X> branch;
         private final Merger<P, X, R> merger;
 
         private ParStepBuilder(
                 final String name, final AbstractParallelBuilder<T, I, P> prev,
-                final PipelineStep<I, X> step, final Merger<P, X, R> merger) {
-            super(prev.pipelineName, name, false, prev.executor);
+                final ParallelRunnables.Branch<I, X> branch, final Merger<P, X, R> merger) {
+            super(prev.pipelineName, name, prev.executor);
             this.prev = prev;
-            this.step = step;
+            this.branch = branch;
             this.merger = merger;
         }
 
@@ -221,10 +290,15 @@ final class ParallelBuilders {
         public final <N> ParallelBuilder<T, I, R> peek(final Function<R, N> mapper, final Consumer<PipelineValue<N>> consumer) {
             checkNullPointer(mapper, "mapper");
             checkNullPointer(consumer, "consumer");
-            return ParallelBuilders.step(this.stepName, this.prev, this.step,
+            return new ParStepBuilder<>(this.stepName, this.prev, this.branch,
                     Merger.wrap(this.pipelineName, this.stepName, this.merger, mapper, consumer));
         }
 
+        @Override
+        final boolean isSingleStep() {
+            return false;
+        }
+
         @Override
         final PipelineStep<I, R> getStep() {
             throw new IllegalStateException();
@@ -238,7 +312,36 @@ final class ParallelBuilders {
         @Override
         ParallelRunnables<I, R> createParallelRunnables() {
             return ParallelRunnables.create(
-                    this.prev.createParallelRunnables(), this.step, this.merger, this.executor);
+                    this.prev.createParallelRunnables(), this.branch, this.merger);
+        }
+    }
+
+    private static final class QuorumStepBuilder<T, I, X>
+            implements QuorumBuilder<T, I, X> {
+
+        private final AbstractBuilder.Sequential<T, I> prev;
+        private final List<ParallelRunnables.Branch<I, X>> branches;
+
+        private QuorumStepBuilder(
+                final AbstractBuilder.Sequential<T, I> prev, final List<ParallelRunnables.Branch<I, X>> branches) {
+            this.prev = prev;
+            this.branches = branches;
+        }
+
+        @Override
+        public final QuorumBuilder<T, I, X> addQuorumStep(final String name, final PipelineStep<I, X> step) {
+            checkNullPointer(name, "name");
+            checkNullPointer(step, "step");
+            final List<ParallelRunnables.Branch<I, X>> branches = new ArrayList<>(this.branches);
+            branches.add(ParallelRunnables.branch(step, this.prev.executor));
+            return new QuorumStepBuilder<>(this.prev, branches);
+        }
+
+        @Override
+        public final <R> SequentialBuilder<T, R> joinQuorum(final int quorum, final Function<List<X>, R> merger) {
+            checkArgument(quorum > 0, "quorum", "Value must be positive.");
+            checkNullPointer(merger, "merger");
+            return SequentialBuilders.step(this.prev, ParallelRunnables.quorum(this.branches, quorum, merger));
         }
     }
 }
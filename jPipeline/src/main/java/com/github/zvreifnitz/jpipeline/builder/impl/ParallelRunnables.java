@@ -1,120 +1,702 @@
 package com.github.zvreifnitz.jpipeline.builder.impl;
 
 import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jcore.pool.Recycler;
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
 import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.builder.Merger;
 import com.github.zvreifnitz.jpipeline.entry.Value;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
-import com.github.zvreifnitz.jpipeline.pipeline.Finalizers;
+import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
 import com.github.zvreifnitz.jpipeline.runnable.ParallelRunnablesFactory;
+import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 import com.github.zvreifnitz.jpipeline.runnable.impl.AbstractRunnable;
+import com.github.zvreifnitz.jpipeline.runnable.impl.RunnableFactories;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
 
 abstract class ParallelRunnables<I, R> implements ParallelRunnablesFactory<I, R> {
 
-    static <I, R, X> ParallelRunnables<I, R> create(
-            final PipelineStep<I, X> step, final Merger<I, X, R> merger, final PipelineExecutor executor) {
-        return new InitRunnableGenerator<>(step, merger, executor);
+    private static final Object PENDING = new Object();
+    private static final Recycler<RunnableList> RUNNABLES = new Recycler<>(RunnableList::new);
+
+    final Branch<I, ?>[] branches;
+    final int quorum;
+    final PipelineStats stats;
+    private final Recycler<Run<I, R>> runs;
+
+    private ParallelRunnables(
+            final Branch<I, ?>[] branches, final int quorum, final boolean recycling, final PipelineStats stats) {
+        this.branches = branches;
+        this.quorum = quorum;
+        this.stats = stats;
+        this.runs = recycling ? new Recycler<>(this::newRun) : null;
+    }
+
+    static <I, X> Branch<I, X> branch(final PipelineStep<I, X> step, final PipelineExecutor executor) {
+        return new StepBranch<>(step, executor);
+    }
+
+    static <I, X> Branch<I, X> branch(final RunnableFactory<I, X> factory) {
+        return new FactoryBranch<>(factory);
+    }
+
+    static <I, R, X> ParallelRunnables<I, R> create(final Branch<I, X> branch, final Merger<I, X, R> merger) {
+        final Branch<I, ?>[] branches = newBranches(1);
+        branches[0] = branch;
+        return new Group<>(branches, new Merger<?, ?, ?>[]{merger}, 1, false, null);
     }
 
     static <I, P, R, X> ParallelRunnables<I, R> create(
-            final ParallelRunnables<I, P> prev, final PipelineStep<I, X> step, final Merger<P, X, R> merger,
-            final PipelineExecutor executor) {
-        return new StepRunnableGenerator<>(prev, step, merger, executor);
+            final ParallelRunnables<I, P> prev, final Branch<I, X> branch, final Merger<P, X, R> merger) {
+        final Group<I, P> group = (Group<I, P>) prev;
+        final int size = group.branches.length;
+        final Branch<I, ?>[] branches = Arrays.copyOf(group.branches, size + 1);
+        final Merger<?, ?, ?>[] mergers = Arrays.copyOf(group.mergers, size + 1);
+        branches[size] = branch;
+        mergers[size] = merger;
+        return new Group<>(branches, mergers, branches.length, false, null);
+    }
+
+    static <I, X> ParallelRunnables<I, X> reduce(final List<Branch<I, X>> branches, final BinaryOperator<X> reducer) {
+        return new Reduce<>(toArray(branches), reducer, branches.size(), false, null);
+    }
+
+    static <I, X, R> ParallelRunnables<I, R> quorum(
+            final List<Branch<I, X>> branches, final int quorum, final Function<List<X>, R> merger) {
+        checkArgument(quorum <= branches.size(), "quorum", "Value must not exceed number of branches.");
+        return new Quorum<>(toArray(branches), merger, quorum, false, null);
     }
 
     @Override
     public final List<Runnable> create(final PipelineEntry<I, R> entry) {
-        final List<Runnable> runnables = new ArrayList<>();
-        final ResultBarrier<R> barrier = new ResultBarrier<>();
-        final Result<R, ?, ?> endResult = this.createResultAndRunnables(entry, runnables, barrier);
-        barrier.setup(runnables.size(), endResult);
+        final Branch<I, ?>[] branches = this.branches;
+        final List<Runnable> runnables;
+        final Run<I, R> run;
+        if (this.runs == null) {
+            runnables = new ArrayList<>(branches.length);
+            run = this.newRun(null);
+        } else {
+            runnables = RUNNABLES.get();
+            run = this.runs.get();
+        }
+        run.start(entry);
+        for (int i = 0; i < branches.length; i++) {
+            runnables.add(branches[i].create(entry, run, i));
+        }
         return runnables;
     }
 
-    abstract <F> Result<R, ?, ?> createResultAndRunnables(
-            final PipelineEntry<I, F> entry, final List<Runnable> runnables,
-            final ResultBarrier<F> collector);
+    @Override
+    public final ParallelRunnablesFactory<I, R> recycling() {
+        if (this.runs != null) {
+            return this;
+        }
+        final Branch<I, ?>[] branches = newBranches(this.branches.length);
+        for (int i = 0; i < branches.length; i++) {
+            branches[i] = this.branches[i].recycling();
+        }
+        return this.copy(branches, this.quorum, true, this.stats);
+    }
+
+    @Override
+    public final ParallelRunnablesFactory<I, R> adaptive() {
+        final Branch<I, ?>[] branches = newBranches(this.branches.length);
+        for (int i = 0; i < branches.length; i++) {
+            branches[i] = this.branches[i].adaptive();
+        }
+        return this.copy(branches, this.quorum, this.runs != null, this.stats);
+    }
 
-    private abstract static class RunnableGenerator<I, R, P, X>
-            extends ParallelRunnables<I, R> {
+    @Override
+    public final ParallelRunnablesFactory<I, R> withStats(final PipelineStats stats) {
+        final Branch<I, ?>[] branches = newBranches(this.branches.length);
+        for (int i = 0; i < branches.length; i++) {
+            branches[i] = this.branches[i].withStats(stats);
+        }
+        return this.copy(branches, this.quorum, this.runs != null, stats);
+    }
+
+    @Override
+    public final void release(final List<Runnable> runnables) {
+        if (this.runs != null) {
+            ((RunnableList) runnables).recycle();
+        }
+    }
 
-        final PipelineStep<I, X> step;
-        final Merger<P, X, R> merger;
-        final PipelineExecutor executor;
+    @SuppressWarnings("unchecked")
+    private static <I> Branch<I, ?>[] newBranches(final int size) {
+        return (Branch<I, ?>[]) new Branch<?, ?>[size];
+    }
 
-        private RunnableGenerator(
-                final PipelineStep<I, X> step, final Merger<P, X, R> merger, final PipelineExecutor executor) {
+    private static <I, X> Branch<I, ?>[] toArray(final List<Branch<I, X>> branches) {
+        final Branch<I, ?>[] array = newBranches(branches.size());
+        for (int i = 0; i < array.length; i++) {
+            array[i] = branches.get(i);
+        }
+        return array;
+    }
+
+    abstract Run<I, R> newRun(final Recycler.Handle<Run<I, R>> handle);
+
+    abstract ParallelRunnables<I, R> copy(
+            final Branch<I, ?>[] branches, final int quorum, final boolean recycling, final PipelineStats stats);
+
+    abstract static class Branch<I, X> {
+
+        private Branch() {
+        }
+
+        abstract boolean isStep();
+
+        abstract PipelineStep<I, X> getStep();
+
+        abstract Branch<I, X> recycling();
+
+        abstract Branch<I, X> adaptive();
+
+        abstract Branch<I, X> withStats(final PipelineStats stats);
+
+        abstract <R> Runnable create(final PipelineEntry<I, R> entry, final Run<I, R> run, final int index);
+    }
+
+    private static final class StepBranch<I, X>
+            extends Branch<I, X> {
+
+        private final PipelineStep<I, X> step;
+        private final PipelineExecutor executor;
+
+        private StepBranch(final PipelineStep<I, X> step, final PipelineExecutor executor) {
             this.step = step;
-            this.merger = merger;
             this.executor = executor;
         }
+
+        @Override
+        final boolean isStep() {
+            return true;
+        }
+
+        @Override
+        final PipelineStep<I, X> getStep() {
+            return this.step;
+        }
+
+        @Override
+        final Branch<I, X> recycling() {
+            return this;
+        }
+
+        @Override
+        final Branch<I, X> adaptive() {
+            return this;
+        }
+
+        @Override
+        final Branch<I, X> withStats(final PipelineStats stats) {
+            return this;
+        }
+
+        @Override
+        final <R> Runnable create(final PipelineEntry<I, R> entry, final Run<I, R> run, final int index) {
+            return new ParallelRunnable<>(this, entry, run, index);
+        }
     }
 
-    private static final class InitRunnableGenerator<I, R, X>
-            extends RunnableGenerator<I, R, I, X> {
+    private static final class FactoryBranch<I, X>
+            extends Branch<I, X> {
+
+        private final RunnableFactory<I, X> factory;
 
-        private InitRunnableGenerator(
-                final PipelineStep<I, X> step, final Merger<I, X, R> merger, final PipelineExecutor executor) {
-            super(step, merger, executor);
+        private FactoryBranch(final RunnableFactory<I, X> factory) {
+            this.factory = factory;
         }
 
         @Override
-        final <F> Result<R, ?, ?> createResultAndRunnables(
-                final PipelineEntry<I, F> entry, final List<Runnable> runnables,
-                final ResultBarrier<F> collector) {
-            final Result<R, I, X> result = new InputResult<>(entry, this.merger);
-            runnables.add(new ParallelRunnable<>(this, entry, result, collector));
-            return result;
+        final boolean isStep() {
+            return false;
+        }
+
+        @Override
+        final PipelineStep<I, X> getStep() {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        final Branch<I, X> recycling() {
+            return new FactoryBranch<>(RunnableFactories.recycling(this.factory));
+        }
+
+        @Override
+        final Branch<I, X> adaptive() {
+            return new FactoryBranch<>(RunnableFactories.adaptive(this.factory));
+        }
+
+        @Override
+        final Branch<I, X> withStats(final PipelineStats stats) {
+            return new FactoryBranch<>(this.factory.withStats(stats));
+        }
+
+        @Override
+        final <R> Runnable create(final PipelineEntry<I, R> entry, final Run<I, R> run, final int index) {
+            return this.factory.create(entry.getRunKey(), entry.get(), new BranchFinalizer<>(entry, run, index));
         }
     }
 
-    private static final class StepRunnableGenerator<I, R, P, X>
-            extends RunnableGenerator<I, R, P, X> {
+    private static final class Group<I, R>
+            extends ParallelRunnables<I, R> {
 
-        private final ParallelRunnables<I, P> prev;
+        private final Merger<?, ?, ?>[] mergers;
 
-        private StepRunnableGenerator(
-                final ParallelRunnables<I, P> prev, final PipelineStep<I, X> step, final Merger<P, X, R> merger,
-                final PipelineExecutor executor) {
-            super(step, merger, executor);
-            this.prev = prev;
+        private Group(
+                final Branch<I, ?>[] branches, final Merger<?, ?, ?>[] mergers, final int quorum,
+                final boolean recycling, final PipelineStats stats) {
+            super(branches, quorum, recycling, stats);
+            this.mergers = mergers;
+        }
+
+        @Override
+        final Run<I, R> newRun(final Recycler.Handle<Run<I, R>> handle) {
+            return new GroupRun<>(handle, this);
+        }
+
+        @Override
+        final ParallelRunnables<I, R> copy(
+                final Branch<I, ?>[] branches, final int quorum, final boolean recycling, final PipelineStats stats) {
+            return new Group<>(branches, this.mergers, quorum, recycling, stats);
+        }
+    }
+
+    private static final class Reduce<I, X>
+            extends ParallelRunnables<I, X> {
+
+        private final BinaryOperator<X> reducer;
+        private final int width;
+        private final boolean[] present;
+
+        private Reduce(
+                final Branch<I, ?>[] branches, final BinaryOperator<X> reducer, final int quorum,
+                final boolean recycling, final PipelineStats stats) {
+            super(branches, quorum, recycling, stats);
+            this.reducer = reducer;
+            int width = 1;
+            while (width < branches.length) {
+                width <<= 1;
+            }
+            this.width = width;
+            this.present = new boolean[width << 1];
+            for (int i = 0; i < branches.length; i++) {
+                this.present[width + i] = true;
+            }
+            for (int i = width - 1; i > 0; i--) {
+                this.present[i] = this.present[i << 1] || this.present[(i << 1) + 1];
+            }
+        }
+
+        @Override
+        final Run<I, X> newRun(final Recycler.Handle<Run<I, X>> handle) {
+            return new ReduceRun<>(handle, this);
         }
 
         @Override
-        final <F> Result<R, ?, ?> createResultAndRunnables(
-                final PipelineEntry<I, F> entry, final List<Runnable> runnables,
-                final ResultBarrier<F> collector) {
-            final Result<R, P, X> result = new StepResult<>(
-                    this.prev.createResultAndRunnables(entry, runnables, collector), this.merger);
-            runnables.add(new ParallelRunnable<>(this, entry, result, collector));
+        final ParallelRunnables<I, X> copy(
+                final Branch<I, ?>[] branches, final int quorum, final boolean recycling, final PipelineStats stats) {
+            checkArgument(quorum == branches.length, "quorum", "Reduce step requires all branches.");
+            return new Reduce<>(branches, this.reducer, quorum, recycling, stats);
+        }
+    }
+
+    private static final class Quorum<I, X, R>
+            extends ParallelRunnables<I, R> {
+
+        private final Function<List<X>, R> merger;
+
+        private Quorum(
+                final Branch<I, ?>[] branches, final Function<List<X>, R> merger, final int quorum,
+                final boolean recycling, final PipelineStats stats) {
+            super(branches, quorum, recycling, stats);
+            this.merger = merger;
+        }
+
+        @Override
+        final Run<I, R> newRun(final Recycler.Handle<Run<I, R>> handle) {
+            return new QuorumRun<>(handle, this);
+        }
+
+        @Override
+        final ParallelRunnables<I, R> copy(
+                final Branch<I, ?>[] branches, final int quorum, final boolean recycling, final PipelineStats stats) {
+            return new Quorum<>(branches, this.merger, quorum, recycling, stats);
+        }
+    }
+
+    abstract static class Run<I, R>
+            implements Value<Object>, Finalizer<R> {
+
+        private static final int RUNNING = 0;
+        private static final int FAILED = 1;
+        private static final int DONE = 2;
+        private static final VarHandle COUNTER;
+        private static final VarHandle FAILURES;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                COUNTER = l.findVarHandle(Run.class, "counter", Integer.TYPE);
+                FAILURES = l.findVarHandle(Run.class, "failures", Integer.TYPE);
+                STATE = l.findVarHandle(Run.class, "state", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Recycler.Handle<Run<I, R>> handle;
+        private final PipelineStats stats;
+        private final int quorum;
+        private final int tolerance;
+        private PipelineEntry<I, R> entry;
+        private RunId runId;
+        private Object value;
+        private volatile int counter;
+        private volatile int failures;
+        private volatile int state;
+
+        private Run(final Recycler.Handle<Run<I, R>> handle, final ParallelRunnables<I, R> owner) {
+            this.handle = handle;
+            this.stats = owner.stats;
+            this.quorum = owner.quorum;
+            this.tolerance = owner.branches.length - owner.quorum;
+        }
+
+        @Override
+        public final String getRunId() {
+            return this.runId.toString();
+        }
+
+        @Override
+        public final RunId getRunKey() {
+            return this.runId;
+        }
+
+        @Override
+        public final Object get() {
+            return this.value;
+        }
+
+        @Override
+        public final void setResult(final R result) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public final void setError(final Throwable throwable) {
+            if ((this.tolerance > 0) && (((int) FAILURES.getAndAdd(this, 1)) < this.tolerance)) {
+                return;
+            }
+            if (STATE.compareAndSet(this, RUNNING, FAILED) && (this.stats != null)) {
+                this.stats.branchesSkipped(Math.max(0, this.counter + this.tolerance - Math.max(1, this.failures)));
+            }
+            this.entry.tryStop(throwable);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return (this.state != RUNNING) || this.entry.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.entry.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.entry.getDeadline();
+        }
+
+        void start(final PipelineEntry<I, R> entry) {
+            this.entry = entry;
+            this.runId = entry.getRunKey();
+            this.counter = this.quorum;
+        }
+
+        abstract boolean set(final int index, final Object result);
+
+        abstract Object collect(final int index, final boolean last);
+
+        @SuppressWarnings("unchecked")
+        final void arrive(final int index) {
+            if (this.state != RUNNING) {
+                if (this.stats != null) {
+                    this.stats.resultDiscarded();
+                }
+                return;
+            }
+            final PipelineEntry<I, R> entry = this.entry;
+            try {
+                final boolean last = (((int) COUNTER.getAndAdd(this, -1)) == 1);
+                if (last && (this.tolerance > 0) && !this.complete()) {
+                    return;
+                }
+                final Object result = this.collect(index, last);
+                if (result != PENDING) {
+                    if (this.tolerance == 0) {
+                        this.recycle();
+                    }
+                    entry.accept((R) result);
+                }
+            } catch (final Throwable exception) {
+                entry.stop(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        final boolean isRunning() {
+            return (this.state == RUNNING);
+        }
+
+        final void deliver(final int index, final Object result) {
+            if (this.set(index, result)) {
+                this.arrive(index);
+            } else if (this.stats != null) {
+                this.stats.resultDiscarded();
+            }
+        }
+
+        private boolean complete() {
+            if (!STATE.compareAndSet(this, RUNNING, DONE)) {
+                return false;
+            }
+            if (this.stats != null) {
+                this.stats.branchesSkipped(Math.max(0, this.tolerance - this.failures));
+            }
+            return true;
+        }
+
+        final Value<Object> value(final Object value) {
+            if (this.handle == null) {
+                return Value.create(this.runId, value);
+            }
+            this.value = value;
+            return this;
+        }
+
+        void reset() {
+            this.entry = null;
+            this.runId = null;
+            this.value = null;
+            this.failures = 0;
+            this.state = RUNNING;
+        }
+
+        private void recycle() {
+            if (this.handle == null) {
+                return;
+            }
+            this.reset();
+            this.handle.recycle(this);
+        }
+    }
+
+    private static final class GroupRun<I, R>
+            extends Run<I, R> {
+
+        private final Merger<Object, Object, Object>[] mergers;
+        private final Object[] slots;
+        private Object input;
+
+        @SuppressWarnings("unchecked")
+        private GroupRun(final Recycler.Handle<Run<I, R>> handle, final Group<I, R> group) {
+            super(handle, group);
+            this.mergers = (Merger<Object, Object, Object>[]) group.mergers;
+            this.slots = new Object[group.mergers.length];
+        }
+
+        @Override
+        final void start(final PipelineEntry<I, R> entry) {
+            super.start(entry);
+            this.input = entry.get();
+        }
+
+        @Override
+        final boolean set(final int index, final Object result) {
+            this.slots[index] = result;
+            return true;
+        }
+
+        @Override
+        final Object collect(final int index, final boolean last) {
+            if (!last) {
+                return PENDING;
+            }
+            final Merger<Object, Object, Object>[] mergers = this.mergers;
+            final Object[] slots = this.slots;
+            Object result = this.input;
+            for (int i = 0; i < mergers.length; i++) {
+                result = mergers[i].apply(this.value(result), slots[i]);
+                slots[i] = null;
+            }
             return result;
         }
+
+        @Override
+        final void reset() {
+            super.reset();
+            this.input = null;
+            Arrays.fill(this.slots, null);
+        }
+    }
+
+    private static final class ReduceRun<I, X>
+            extends Run<I, X> {
+
+        private static final VarHandle ARRIVALS = MethodHandles.arrayElementVarHandle(int[].class);
+
+        private final BinaryOperator<Object> reducer;
+        private final boolean[] present;
+        private final int width;
+        private final Object[] values;
+        private final int[] arrivals;
+
+        @SuppressWarnings("unchecked")
+        private ReduceRun(final Recycler.Handle<Run<I, X>> handle, final Reduce<I, X> reduce) {
+            super(handle, reduce);
+            this.reducer = (BinaryOperator<Object>) reduce.reducer;
+            this.present = reduce.present;
+            this.width = reduce.width;
+            this.values = new Object[reduce.width << 1];
+            this.arrivals = new int[reduce.width];
+        }
+
+        @Override
+        final boolean set(final int index, final Object result) {
+            this.values[this.width + index] = result;
+            return true;
+        }
+
+        @Override
+        final Object collect(final int index, final boolean last) {
+            final Object[] values = this.values;
+            int node = this.width + index;
+            Object result = values[node];
+            while (node > 1) {
+                final int sibling = node ^ 1;
+                if (this.present[sibling]) {
+                    values[node] = result;
+                    if (((int) ARRIVALS.getAndAdd(this.arrivals, node >>> 1, 1)) == 0) {
+                        return PENDING;
+                    }
+                    final Object other = values[sibling];
+                    values[node] = null;
+                    values[sibling] = null;
+                    result = ((node & 1) == 0) ? this.reducer.apply(result, other) : this.reducer.apply(other, result);
+                }
+                node >>>= 1;
+            }
+            return result;
+        }
+
+        @Override
+        final void reset() {
+            super.reset();
+            Arrays.fill(this.values, null);
+            Arrays.fill(this.arrivals, 0);
+        }
+    }
+
+    private static final class QuorumRun<I, X, R>
+            extends Run<I, R> {
+
+        private static final Object NULL = new Object();
+        private static final VarHandle ANSWERS = MethodHandles.arrayElementVarHandle(Object[].class);
+        private static final VarHandle ANSWERED;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                ANSWERED = l.findVarHandle(QuorumRun.class, "answered", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Function<List<X>, R> merger;
+        private final Object[] answers;
+        private volatile int answered;
+
+        private QuorumRun(final Recycler.Handle<Run<I, R>> handle, final Quorum<I, X, R> quorum) {
+            super(handle, quorum);
+            this.merger = quorum.merger;
+            this.answers = new Object[quorum.quorum];
+        }
+
+        @Override
+        final boolean set(final int index, final Object result) {
+            if (!this.isRunning()) {
+                return false;
+            }
+            final int position = (int) ANSWERED.getAndAdd(this, 1);
+            if (position >= this.answers.length) {
+                return false;
+            }
+            ANSWERS.setRelease(this.answers, position, (result != null) ? result : NULL);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        final Object collect(final int index, final boolean last) {
+            if (!last) {
+                return PENDING;
+            }
+            final Object[] answers = this.answers;
+            final List<X> results = new ArrayList<>(answers.length);
+            for (int i = 0; i < answers.length; i++) {
+                final Object answer = ANSWERS.getAcquire(answers, i);
+                results.add((answer != NULL) ? (X) answer : null);
+                answers[i] = null;
+            }
+            return this.merger.apply(results);
+        }
+
+        @Override
+        final void reset() {
+            super.reset();
+            this.answered = 0;
+            Arrays.fill(this.answers, null);
+        }
     }
 
     private static final class ParallelRunnable<I, R, X>
             extends AbstractRunnable<I, X, R>
             implements Runnable {
 
-        private final RunnableGenerator<I, ?, ?, X> parent;
+        private final StepBranch<I, X> parent;
         private final PipelineEntry<I, R> entry;
-        private final Consumer<X> consumer;
-        private final ResultBarrier<R> barrier;
+        private final Run<I, R> run;
+        private final int index;
 
         private ParallelRunnable(
-                final RunnableGenerator<I, ?, ?, X> parent, final PipelineEntry<I, R> entry,
-                final Consumer<X> consumer, final ResultBarrier<R> barrier) {
-            super(entry.getRunId(), entry.get(), Finalizers.fromPipelineEntry(entry));
+                final StepBranch<I, X> parent, final PipelineEntry<I, R> entry,
+                final Run<I, R> run, final int index) {
+            super(entry.getRunKey(), entry.get(), run);
             this.parent = parent;
             this.entry = entry;
-            this.consumer = consumer;
-            this.barrier = barrier;
+            this.run = run;
+            this.index = index;
         }
 
         @Override
@@ -124,109 +706,106 @@ abstract class ParallelRunnables<I, R> implements ParallelRunnablesFactory<I, R>
 
         @Override
         protected final Runnable createNext(final X result) {
-            this.consumer.accept(result);
-            return this::collectResult;
+            return () -> this.collectResult(result);
         }
 
         @Override
         protected final Runnable createSame() {
-            return new ParallelRunnable<>(this.parent, this.entry, this.consumer, this.barrier);
+            return new ParallelRunnable<>(this.parent, this.entry, this.run, this.index);
         }
 
         @Override
-        protected final void enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit) {
-            PipelineExecutor.executeOrSchedule(this.parent.executor, runnable, time, timeUnit);
+        protected final Cancellable enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            return PipelineExecutor.executeOrScheduleCancellable(this.parent.executor, runnable, time, timeUnit);
         }
 
-        private void collectResult() {
-            try {
-                if (this.barrier.isDone()) {
-                    this.entry.accept(this.barrier.getResult());
-                }
-            } catch (final Throwable exception) {
-                this.entry.stop(exception);
-                Exceptions.rethrowIfError(exception);
-            }
+        private void collectResult(final X result) {
+            this.run.deliver(this.index, result);
         }
     }
 
-    private static final class ResultBarrier<R> {
+    private static final class BranchFinalizer<X, I, R>
+            implements Finalizer<X> {
 
-        private AtomicInteger counter;
-        private Result<R, ?, ?> endResult;
+        private final PipelineEntry<I, R> entry;
+        private final Run<I, R> run;
+        private final int index;
 
-        private void setup(final int count, final Result<R, ?, ?> endResult) {
-            this.endResult = endResult;
-            this.counter = new AtomicInteger(count);
+        private BranchFinalizer(final PipelineEntry<I, R> entry, final Run<I, R> run, final int index) {
+            this.entry = entry;
+            this.run = run;
+            this.index = index;
         }
 
-        final boolean isDone() {
-            final int result = this.counter.decrementAndGet();
-            return (result <= 0);
+        @Override
+        public final void setResult(final X result) {
+            this.run.deliver(this.index, result);
         }
 
-        final R getResult() {
-            return this.endResult.getResult();
+        @Override
+        public final void setError(final Throwable throwable) {
+            this.run.setError(throwable);
         }
-    }
-
-    private abstract static class Result<R, P, X>
-            implements Consumer<X> {
-
-        final Merger<P, X, R> merger;
-        X result;
 
-        private Result(final Merger<P, X, R> merger) {
-            this.merger = merger;
+        @Override
+        public final boolean isCancelled() {
+            return this.run.isCancelled();
         }
 
         @Override
-        public final void accept(final X result) {
-            this.result = result;
+        public final void onCancel(final Runnable callback) {
+            this.entry.onCancel(callback);
         }
 
-        abstract Value<R> getResultValue();
-
-        final R getResult() {
-            return this.getResultValue().get();
+        @Override
+        public final long getDeadline() {
+            return this.entry.getDeadline();
         }
     }
 
-    private static final class InputResult<I, R, X>
-            extends Result<R, I, X> {
+    private static final class RunnableList
+            extends AbstractList<Runnable> {
 
-        private final String runId;
-        private final I input;
+        private final List<Runnable> runnables = new ArrayList<>();
+        private final Recycler.Handle<RunnableList> handle;
 
-        private InputResult(final PipelineEntry<I, ?> entry, final Merger<I, X, R> merger) {
-            super(merger);
-            this.runId = entry.getRunId();
-            this.input = entry.get();
+        private RunnableList(final Recycler.Handle<RunnableList> handle) {
+            this.handle = handle;
         }
 
         @Override
-        final Value<R> getResultValue() {
-            final Value<I> v = Value.create(this.runId, this.input);
-            final R r = this.merger.apply(v, this.result);
-            return Value.create(v.getRunId(), r);
+        public final Runnable get(final int index) {
+            return this.runnables.get(index);
+        }
+
+        @Override
+        public final int size() {
+            return this.runnables.size();
         }
-    }
 
-    private static final class StepResult<R, P, X>
-            extends Result<R, P, X> {
+        @Override
+        public final Runnable set(final int index, final Runnable runnable) {
+            return this.runnables.set(index, runnable);
+        }
 
-        private final Result<P, ?, ?> prev;
+        @Override
+        public final void add(final int index, final Runnable runnable) {
+            this.runnables.add(index, runnable);
+        }
 
-        private StepResult(final Result<P, ?, ?> prev, final Merger<P, X, R> merger) {
-            super(merger);
-            this.prev = prev;
+        @Override
+        public final Runnable remove(final int index) {
+            return this.runnables.remove(index);
         }
 
         @Override
-        final Value<R> getResultValue() {
-            final Value<P> v = this.prev.getResultValue();
-            final R r = this.merger.apply(v, this.result);
-            return Value.create(v.getRunId(), r);
+        public final void clear() {
+            this.runnables.clear();
+        }
+
+        private void recycle() {
+            this.clear();
+            this.handle.recycle(this);
         }
     }
 }
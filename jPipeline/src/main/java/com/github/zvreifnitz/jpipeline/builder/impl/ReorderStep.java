@@ -0,0 +1,201 @@
+package com.github.zvreifnitz.jpipeline.builder.impl;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.entry.EntryWrapper;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.utils.Funcs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+final class ReorderStep<T, R> implements PipelineStep<T, R> {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle NEXT;
+    private static final VarHandle DRAINING;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            NEXT = l.findVarHandle(ReorderStep.class, "next", Long.TYPE);
+            DRAINING = l.findVarHandle(ReorderStep.class, "draining", Integer.TYPE);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final PipelineStep<T, R> step;
+    private final PipelineExecutor executor;
+    private final int window;
+    private final int mask;
+    private final Object[] completions;
+    private final Object[] parked;
+    private volatile long next;
+    private volatile long head;
+    private volatile int draining;
+
+    ReorderStep(final PipelineStep<T, R> step, final int window, final PipelineExecutor executor) {
+        this.step = step;
+        this.executor = executor;
+        this.window = Integer.highestOneBit(Math.max(1, window - 1) << 1);
+        this.mask = this.window - 1;
+        this.completions = new Object[this.window];
+        this.parked = new Object[this.window];
+    }
+
+    @Override
+    public final void process(final PipelineEntry<T, R> entry) {
+        final Entry completion = new Entry(entry, (long) NEXT.getAndAdd(this, 1L));
+        if (this.isAdmitted(completion.seq)) {
+            completion.start();
+            return;
+        }
+        this.park(completion);
+    }
+
+    private boolean isAdmitted(final long seq) {
+        return ((seq - this.head) < this.window);
+    }
+
+    private void park(final Entry completion) {
+        final int index = (int) (completion.seq & this.mask);
+        Entry top;
+        do {
+            top = (Entry) SLOTS.getAcquire(this.parked, index);
+            completion.parked = top;
+        } while (!SLOTS.weakCompareAndSet(this.parked, index, top, completion));
+        if (this.isAdmitted(completion.seq)) {
+            this.unpark(completion.seq);
+        }
+    }
+
+    private void unpark(final long seq) {
+        final int index = (int) (seq & this.mask);
+        Entry node = (Entry) SLOTS.getAndSet(this.parked, index, null);
+        while (node != null) {
+            final Entry parked = node.parked;
+            node.parked = null;
+            if (node.seq == seq) {
+                this.executor.execute(node::start);
+            } else {
+                this.park(node);
+            }
+            node = parked;
+        }
+    }
+
+    private void complete(final Entry completion) {
+        SLOTS.setRelease(this.completions, (int) (completion.seq & this.mask), completion);
+        this.drain();
+    }
+
+    private void drain() {
+        while (DRAINING.compareAndSet(this, 0, 1)) {
+            long head = this.head;
+            Entry completion;
+            while ((completion = (Entry) SLOTS.getAcquire(this.completions, (int) (head & this.mask))) != null) {
+                this.completions[(int) (head & this.mask)] = null;
+                this.head = ++head;
+                completion.release();
+                this.unpark(head + this.mask);
+            }
+            this.draining = 0;
+            if (SLOTS.getAcquire(this.completions, (int) (head & this.mask)) == null) {
+                return;
+            }
+        }
+    }
+
+    private final class Entry extends EntryWrapper<T, T, R, R> {
+
+        private static final int PENDING = 0;
+        private static final int ACCEPTED = 1;
+        private static final int STOPPED = 2;
+
+        private final long seq;
+        private Entry parked;
+        private int state = PENDING;
+        private R result;
+        private long time;
+        private TimeUnit timeUnit;
+        private Throwable throwable;
+
+        private Entry(final PipelineEntry<T, R> entry, final long seq) {
+            super(entry, Funcs::identity, Funcs::passThrough);
+            this.seq = seq;
+        }
+
+        private void start() {
+            if (this.entry.isCancelled()) {
+                this.cancel();
+                return;
+            }
+            this.entry.onCancel(this::cancel);
+            this.invoke();
+        }
+
+        private void cancel() {
+            this.tryStop(new CancellationException());
+        }
+
+        private void invoke() {
+            try {
+                ReorderStep.this.step.process(this);
+            } catch (final Throwable exception) {
+                this.tryStop(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        @Override
+        public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
+            synchronized (this) {
+                if (this.state != PENDING) {
+                    return false;
+                }
+                this.state = ACCEPTED;
+                this.result = result;
+                this.time = time;
+                this.timeUnit = timeUnit;
+            }
+            ReorderStep.this.complete(this);
+            return true;
+        }
+
+        @Override
+        public final boolean tryStop(final Throwable throwable) {
+            synchronized (this) {
+                if (this.state != PENDING) {
+                    return false;
+                }
+                this.state = STOPPED;
+                this.throwable = throwable;
+            }
+            ReorderStep.this.complete(this);
+            return true;
+        }
+
+        @Override
+        public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
+            synchronized (this) {
+                if (this.state != PENDING) {
+                    return false;
+                }
+            }
+            PipelineExecutor.executeOrSchedule(ReorderStep.this.executor, this::invoke, time, timeUnit);
+            return true;
+        }
+
+        private void release() {
+            if (this.state == ACCEPTED) {
+                super.tryAccept(this.result, this.time, this.timeUnit);
+            } else {
+                super.tryStop(this.throwable);
+            }
+        }
+    }
+}
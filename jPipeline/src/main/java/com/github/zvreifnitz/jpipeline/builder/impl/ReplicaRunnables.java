@@ -0,0 +1,262 @@
+package com.github.zvreifnitz.jpipeline.builder.impl;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.entry.AbstractEntry;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.runnable.ParallelRunnablesFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.ToIntFunction;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+
+final class ReplicaRunnables<I, X> implements ParallelRunnablesFactory<I, X> {
+
+    private final PipelineStep<I, X> step;
+    private final ToIntFunction<I> replicas;
+    private final BinaryOperator<X> reducer;
+    private final PipelineExecutor executor;
+    private final int parallelism;
+
+    private ReplicaRunnables(
+            final PipelineStep<I, X> step, final ToIntFunction<I> replicas,
+            final BinaryOperator<X> reducer, final PipelineExecutor executor) {
+        this.step = step;
+        this.replicas = replicas;
+        this.reducer = reducer;
+        this.executor = executor;
+        this.parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    static <I, X> ReplicaRunnables<I, X> create(
+            final PipelineStep<I, X> step, final ToIntFunction<I> replicas,
+            final BinaryOperator<X> reducer, final PipelineExecutor executor) {
+        return new ReplicaRunnables<>(step, replicas, reducer, executor);
+    }
+
+    @Override
+    public final List<Runnable> create(final PipelineEntry<I, X> entry) {
+        final int replicas = this.replicas.applyAsInt(entry.get());
+        checkArgument(replicas > 0, "replicas", "Value must be positive.");
+        final int grain = (replicas + this.parallelism - 1) / this.parallelism;
+        final int parts = (replicas + grain - 1) / grain;
+        final Run<I, X> run = new Run<>(this, entry, parts);
+        final List<Runnable> chunks = new ArrayList<>(parts);
+        for (int part = 0; part < parts; part++) {
+            final int from = part * grain;
+            chunks.add(new Chunk<>(run, part, from, Math.min(replicas, from + grain)));
+        }
+        return chunks;
+    }
+
+    private static final class Run<I, X> {
+
+        private static final int RUNNING = 0;
+        private static final int FAILED = 1;
+        private static final VarHandle PENDING;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                PENDING = l.findVarHandle(Run.class, "pending", Integer.TYPE);
+                STATE = l.findVarHandle(Run.class, "state", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final ReplicaRunnables<I, X> owner;
+        private final PipelineEntry<I, X> entry;
+        private final Object[] partials;
+        private volatile int pending;
+        private volatile int state;
+
+        private Run(final ReplicaRunnables<I, X> owner, final PipelineEntry<I, X> entry, final int parts) {
+            this.owner = owner;
+            this.entry = entry;
+            this.partials = new Object[parts];
+            this.pending = parts;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void collect(final int part, final X partial) {
+            this.partials[part] = partial;
+            if (((int) PENDING.getAndAdd(this, -1)) != 1) {
+                return;
+            }
+            try {
+                final Object[] partials = this.partials;
+                X result = (X) partials[0];
+                for (int i = 1; i < partials.length; i++) {
+                    result = this.owner.reducer.apply(result, (X) partials[i]);
+                }
+                this.entry.tryAccept(result);
+            } catch (final Throwable exception) {
+                this.fail(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        private void fail(final Throwable throwable) {
+            if (STATE.compareAndSet(this, RUNNING, FAILED)) {
+                this.entry.tryStop(throwable);
+            }
+        }
+
+        private boolean isCancelled() {
+            return (this.state != RUNNING) || this.entry.isCancelled();
+        }
+    }
+
+    private static final class Chunk<I, X> implements Runnable {
+
+        private static final int RUNNING = 0;
+        private static final int ASYNC = 1;
+        private static final int READY = 2;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                STATE = l.findVarHandle(Chunk.class, "state", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Run<I, X> run;
+        private final int part;
+        private final int from;
+        private final int to;
+        private int index;
+        private X partial;
+        private volatile int state;
+
+        private Chunk(final Run<I, X> run, final int part, final int from, final int to) {
+            this.run = run;
+            this.part = part;
+            this.from = from;
+            this.index = from;
+            this.to = to;
+        }
+
+        @Override
+        public final void run() {
+            final Run<I, X> run = this.run;
+            while (this.index < this.to) {
+                if (run.isCancelled()) {
+                    return;
+                }
+                this.state = RUNNING;
+                final Replica<I, X> replica = new Replica<>(this);
+                try {
+                    run.owner.step.process(replica);
+                } catch (final Throwable exception) {
+                    replica.tryStop(exception);
+                    Exceptions.rethrowIfError(exception);
+                }
+                if (STATE.compareAndSet(this, RUNNING, ASYNC)) {
+                    return;
+                }
+            }
+            run.collect(this.part, this.partial);
+        }
+
+        private void accept(final X result) {
+            try {
+                this.partial = (this.index == this.from) ? result : this.run.owner.reducer.apply(this.partial, result);
+                this.index++;
+                this.resume();
+            } catch (final Throwable exception) {
+                this.run.fail(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        private void resume() {
+            if (!STATE.compareAndSet(this, RUNNING, READY)) {
+                this.run();
+            }
+        }
+    }
+
+    private static final class Replica<I, X> extends AbstractEntry<I, X> {
+
+        private static final VarHandle DONE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                DONE = l.findVarHandle(Replica.class, "done", Boolean.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Chunk<I, X> chunk;
+        private volatile boolean done;
+
+        private Replica(final Chunk<I, X> chunk) {
+            super(chunk.run.entry.getRunKey(), chunk.run.entry.get());
+            this.chunk = chunk;
+        }
+
+        @Override
+        public final boolean tryAccept(final X result, final long time, final TimeUnit timeUnit) {
+            if (!DONE.compareAndSet(this, false, true)) {
+                return false;
+            }
+            if (time > 0L) {
+                this.chunk.run.owner.executor.schedule(() -> this.chunk.accept(result), time, timeUnit);
+            } else {
+                this.chunk.accept(result);
+            }
+            return true;
+        }
+
+        @Override
+        public final boolean tryStop(final Throwable throwable) {
+            if (!DONE.compareAndSet(this, false, true)) {
+                return false;
+            }
+            this.chunk.run.fail(throwable);
+            return true;
+        }
+
+        @Override
+        public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
+            if (!DONE.compareAndSet(this, false, true)) {
+                return false;
+            }
+            if (time > 0L) {
+                this.chunk.run.owner.executor.schedule(this.chunk::resume, time, timeUnit);
+            } else {
+                this.chunk.resume();
+            }
+            return true;
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.chunk.run.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.chunk.run.entry.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.chunk.run.entry.getDeadline();
+        }
+    }
+}
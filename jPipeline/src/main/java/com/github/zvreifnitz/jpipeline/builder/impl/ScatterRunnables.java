@@ -0,0 +1,212 @@
+package com.github.zvreifnitz.jpipeline.builder.impl;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
+import com.github.zvreifnitz.jpipeline.runnable.ParallelRunnablesFactory;
+import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
+import com.github.zvreifnitz.jpipeline.runnable.impl.RunnableFactories;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+final class ScatterRunnables<I, E, Y, R> implements ParallelRunnablesFactory<I, R> {
+
+    private static final int SURPLUS = 4;
+
+    private final Function<I, List<E>> splitter;
+    private final RunnableFactory<E, Y> factory;
+    private final BiFunction<I, List<Y>, R> gatherer;
+    private final PipelineExecutor executor;
+    private final int parallelism;
+
+    private ScatterRunnables(
+            final Function<I, List<E>> splitter, final RunnableFactory<E, Y> factory,
+            final BiFunction<I, List<Y>, R> gatherer, final PipelineExecutor executor) {
+        this.splitter = splitter;
+        this.factory = factory;
+        this.gatherer = gatherer;
+        this.executor = executor;
+        this.parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    static <I, E, Y, R> ScatterRunnables<I, E, Y, R> create(
+            final Function<I, List<E>> splitter, final RunnableFactory<E, Y> factory,
+            final BiFunction<I, List<Y>, R> gatherer, final PipelineExecutor executor) {
+        return new ScatterRunnables<>(splitter, factory, gatherer, executor);
+    }
+
+    @Override
+    public final List<Runnable> create(final PipelineEntry<I, R> entry) {
+        final List<E> elements = this.splitter.apply(entry.get());
+        final int size = elements.size();
+        final Gather<I, E, Y, R> gather = new Gather<>(this, entry, elements);
+        final List<Runnable> runnables = new ArrayList<>(1);
+        if (size == 0) {
+            runnables.add(gather);
+        } else {
+            final int grain = (this.parallelism == 1) ? size : Math.max(1, size / (this.parallelism * SURPLUS));
+            runnables.add(new Scatter<>(gather, 0, size, grain));
+        }
+        return runnables;
+    }
+
+    @Override
+    public final ParallelRunnablesFactory<I, R> recycling() {
+        return new ScatterRunnables<>(
+                this.splitter, RunnableFactories.recycling(this.factory), this.gatherer, this.executor);
+    }
+
+    @Override
+    public final ParallelRunnablesFactory<I, R> adaptive() {
+        return new ScatterRunnables<>(
+                this.splitter, RunnableFactories.adaptive(this.factory), this.gatherer, this.executor);
+    }
+
+    @Override
+    public final ParallelRunnablesFactory<I, R> withStats(final PipelineStats stats) {
+        return new ScatterRunnables<>(this.splitter, this.factory.withStats(stats), this.gatherer, this.executor);
+    }
+
+    private static final class Gather<I, E, Y, R> implements Runnable {
+
+        private static final int RUNNING = 0;
+        private static final int FAILED = 1;
+        private static final VarHandle PENDING;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                PENDING = l.findVarHandle(Gather.class, "pending", Integer.TYPE);
+                STATE = l.findVarHandle(Gather.class, "state", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final ScatterRunnables<I, E, Y, R> owner;
+        private final PipelineEntry<I, R> entry;
+        private final List<E> elements;
+        private final Object[] results;
+        private volatile int pending;
+        private volatile int state;
+
+        private Gather(
+                final ScatterRunnables<I, E, Y, R> owner, final PipelineEntry<I, R> entry, final List<E> elements) {
+            this.owner = owner;
+            this.entry = entry;
+            this.elements = elements;
+            this.results = new Object[elements.size()];
+            this.pending = elements.size();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final void run() {
+            try {
+                final List<Y> results = (List<Y>) Arrays.asList(this.results);
+                this.entry.tryAccept(this.owner.gatherer.apply(this.entry.get(), results));
+            } catch (final Throwable exception) {
+                this.fail(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        private void scatter(final int from, final int to) {
+            final RunnableFactory<E, Y> factory = this.owner.factory;
+            for (int i = from; i < to; i++) {
+                if (this.isCancelled()) {
+                    return;
+                }
+                factory.create(this.entry.getRunKey(), this.elements.get(i), new Slot<>(this, i)).run();
+            }
+        }
+
+        private void set(final int index, final Object result) {
+            this.results[index] = result;
+            if (((int) PENDING.getAndAdd(this, -1)) == 1) {
+                this.run();
+            }
+        }
+
+        private void fail(final Throwable throwable) {
+            if (STATE.compareAndSet(this, RUNNING, FAILED)) {
+                this.entry.tryStop(throwable);
+            }
+        }
+
+        private boolean isCancelled() {
+            return (this.state != RUNNING) || this.entry.isCancelled();
+        }
+    }
+
+    private static final class Scatter<I, E, Y, R> implements Runnable {
+
+        private final Gather<I, E, Y, R> gather;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        private Scatter(final Gather<I, E, Y, R> gather, final int from, final int to, final int grain) {
+            this.gather = gather;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        public final void run() {
+            int to = this.to;
+            while ((to - this.from) > this.grain) {
+                final int mid = (this.from + to) >>> 1;
+                this.gather.owner.executor.execute(new Scatter<>(this.gather, mid, to, this.grain));
+                to = mid;
+            }
+            this.gather.scatter(this.from, to);
+        }
+    }
+
+    private static final class Slot<I, E, Y, R> implements Finalizer<Y> {
+
+        private final Gather<I, E, Y, R> gather;
+        private final int index;
+
+        private Slot(final Gather<I, E, Y, R> gather, final int index) {
+            this.gather = gather;
+            this.index = index;
+        }
+
+        @Override
+        public final void setResult(final Y result) {
+            this.gather.set(this.index, result);
+        }
+
+        @Override
+        public final void setError(final Throwable throwable) {
+            this.gather.fail(throwable);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.gather.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.gather.entry.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.gather.entry.getDeadline();
+        }
+    }
+}
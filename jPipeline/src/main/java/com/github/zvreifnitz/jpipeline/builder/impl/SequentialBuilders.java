@@ -4,15 +4,22 @@ import com.github.zvreifnitz.jcore.exc.Exceptions;
 import com.github.zvreifnitz.jpipeline.*;
 import com.github.zvreifnitz.jpipeline.builder.Merger;
 import com.github.zvreifnitz.jpipeline.builder.ParallelBuilder;
+import com.github.zvreifnitz.jpipeline.builder.QuorumBuilder;
 import com.github.zvreifnitz.jpipeline.builder.SequentialBuilder;
 import com.github.zvreifnitz.jpipeline.entry.EntryWrapper;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
+import com.github.zvreifnitz.jpipeline.runnable.ParallelRunnablesFactory;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 import com.github.zvreifnitz.jpipeline.runnable.impl.RunnableFactories;
 import com.github.zvreifnitz.jpipeline.step.Steps;
+import com.github.zvreifnitz.jpipeline.step.SyncStep;
 import com.github.zvreifnitz.jpipeline.utils.Funcs;
 import com.github.zvreifnitz.jpipeline.utils.Predicates;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -20,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.*;
 
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
 import static com.github.zvreifnitz.jcore.Preconditions.checkCollection;
 import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
 
@@ -33,7 +41,7 @@ final class SequentialBuilders {
     }
 
     static <T, P, R> AbstractBuilder.Sequential<T, R> step(
-            final AbstractBuilder.Sequential<T, P> prev, final ParallelRunnables<P, R> tasksFactory) {
+            final AbstractBuilder.Sequential<T, P> prev, final ParallelRunnablesFactory<P, R> tasksFactory) {
         return new ParStepBuilder<>(prev, tasksFactory);
     }
 
@@ -66,7 +74,7 @@ final class SequentialBuilders {
                 final String name, final PipelineBuilder<R, N> builder) {
             checkNullPointer(name, "name");
             checkNullPointer(builder, "builder");
-            return addOrderedStep(name, convertToStep(this.pipelineName, name, this.executor, builder));
+            return new OrderedBuilderBuilder<>(name, SequentialBuilders.step("barrier", this, new OrderBarrier<>()), builder);
         }
 
         @Override
@@ -78,6 +86,37 @@ final class SequentialBuilders {
                     new Ordered<>(step));
         }
 
+        @Override
+        public final <N> SequentialBuilder<T, N> addOrderedStep(
+                final String name, final PipelineStep<R, N> step, final int window) {
+            checkNullPointer(name, "name");
+            checkNullPointer(step, "step");
+            checkArgument(window > 0, "window", "Value must be positive.");
+            return SequentialBuilders.step(name, this, new ReorderStep<>(step, window, this.executor));
+        }
+
+        @Override
+        public final <N> SequentialBuilder<T, N> addKeyedOrderedStep(
+                final String name, final Function<R, ?> keyFn, final PipelineStep<R, N> step) {
+            checkNullPointer(name, "name");
+            checkNullPointer(keyFn, "keyFn");
+            checkNullPointer(step, "step");
+            return SequentialBuilders.step(name, this, new KeyedOrderStep<>(keyFn, step, this.executor));
+        }
+
+        @Override
+        public final <N> SequentialBuilder<T, N> addBatchingStep(
+                final String name, final int maxSize, final long maxDelay, final TimeUnit timeUnit,
+                final Function<List<R>, List<N>> func) {
+            checkNullPointer(name, "name");
+            checkArgument(maxSize > 0, "maxSize", "Value must be positive.");
+            checkArgument(maxDelay > 0L, "maxDelay", "Value must be positive.");
+            checkNullPointer(timeUnit, "timeUnit");
+            checkNullPointer(func, "func");
+            return SequentialBuilders.step(name, this,
+                    new BatchingStep<>(maxSize, timeUnit.toNanos(maxDelay), func, this.executor));
+        }
+
         @Override
         public final <N> SequentialBuilder<T, N> buildStep(final String name, final PipelineBuilder<R, N> builder) {
             checkNullPointer(name, "name");
@@ -159,6 +198,44 @@ final class SequentialBuilders {
             return ParallelBuilders.step(name, this, builder, Merger.wrap(merger));
         }
 
+        @Override
+        public final <X> SequentialBuilder<T, X> addParallelReduceStep(
+                final String name, final List<PipelineStep<R, X>> steps, final BinaryOperator<X> reducer) {
+            checkNullPointer(name, "name");
+            checkCollection(steps, "steps");
+            checkNullPointer(reducer, "reducer");
+            return ParallelBuilders.reduce(name, this, steps, reducer);
+        }
+
+        @Override
+        public final <X> QuorumBuilder<T, R, X> addQuorumStep(final String name, final PipelineStep<R, X> step) {
+            checkNullPointer(name, "name");
+            checkNullPointer(step, "step");
+            return ParallelBuilders.quorum(this, step);
+        }
+
+        @Override
+        public final <E, Y, X> SequentialBuilder<T, X> buildScatterGatherStep(
+                final String name, final Function<R, List<E>> splitter,
+                final PipelineBuilder<E, Y> elementBuilder, final BiFunction<R, List<Y>, X> gatherer) {
+            checkNullPointer(name, "name");
+            checkNullPointer(splitter, "splitter");
+            checkNullPointer(elementBuilder, "elementBuilder");
+            checkNullPointer(gatherer, "gatherer");
+            return ParallelBuilders.scatter(name, this, splitter, elementBuilder, gatherer);
+        }
+
+        @Override
+        public final <X> SequentialBuilder<T, X> addParallelReplicas(
+                final String name, final ToIntFunction<R> replicas,
+                final PipelineStep<R, X> step, final BinaryOperator<X> reducer) {
+            checkNullPointer(name, "name");
+            checkNullPointer(replicas, "replicas");
+            checkNullPointer(step, "step");
+            checkNullPointer(reducer, "reducer");
+            return ParallelBuilders.replicas(this, replicas, step, reducer);
+        }
+
         @Override
         public final SequentialBuilder<T, R> peek(final Consumer<PipelineValue<R>> consumer) {
             return this.peek(Function.identity(), consumer);
@@ -212,9 +289,21 @@ final class SequentialBuilders {
 
         @Override
         final <F> RunnableFactory<T, F> buildRunnableFactory(final RunnableFactory<R, F> next) {
+            if (this.step instanceof SyncStep) {
+                return this.prev.buildFusedRunnableFactory((SyncStep<P, R>) this.step, next);
+            }
             return this.prev.buildRunnableFactory(RunnableFactories.create(executor, this.step, next));
         }
 
+        @Override
+        final <X, F> RunnableFactory<T, F> buildFusedRunnableFactory(
+                final SyncStep<R, X> step, final RunnableFactory<X, F> next) {
+            if (this.step instanceof SyncStep) {
+                return this.prev.buildFusedRunnableFactory(Steps.fuse((SyncStep<P, R>) this.step, step), next);
+            }
+            return super.buildFusedRunnableFactory(step, next);
+        }
+
         @Override
         public final <N> SequentialBuilder<T, R> peek(
                 final Function<R, N> mapper, final Consumer<PipelineValue<N>> consumer) {
@@ -230,9 +319,9 @@ final class SequentialBuilders {
             extends AbstractSequentialBuilder<T, R> {
 
         private final Sequential<T, P> prev;
-        private final ParallelRunnables<P, R> tasksFactory;
+        private final ParallelRunnablesFactory<P, R> tasksFactory;
 
-        private ParStepBuilder(final Sequential<T, P> prev, final ParallelRunnables<P, R> tasksFactory) {
+        private ParStepBuilder(final Sequential<T, P> prev, final ParallelRunnablesFactory<P, R> tasksFactory) {
             super(prev.pipelineName, "", prev.executor);
             this.prev = prev;
             this.tasksFactory = tasksFactory;
@@ -328,6 +417,135 @@ final class SequentialBuilders {
         }
     }
 
+    private static final class OrderedBuilderBuilder<T, P, R>
+            extends BuilderBuilder<T, R> {
+
+        private final Sequential<T, BarrierRelease<P>> prev;
+        private final PipelineBuilder<P, R> builder;
+
+        private OrderedBuilderBuilder(
+                final String name, final Sequential<T, BarrierRelease<P>> prev, final PipelineBuilder<P, R> builder) {
+            super(prev.pipelineName, name, prev.executor);
+            this.prev = prev;
+            this.builder = builder;
+        }
+
+        @Override
+        final <F> RunnableFactory<T, F> buildRunnableFactory(final RunnableFactory<R, F> next) {
+            final String childPipelineName = AbstractBuilder.pipelineName(this.pipelineName, this.stepName);
+            final RunnableFactory<P, F> factory = this.buildRunnableFactory(
+                    childPipelineName, this.builder, new ReleaseRunnableFactory<>(next));
+            return this.prev.buildRunnableFactory(new OrderedRunnableFactory<>(factory));
+        }
+    }
+
+    private static final class OrderedRunnableFactory<T, F>
+            implements RunnableFactory<BarrierRelease<T>, F> {
+
+        private final RunnableFactory<T, F> factory;
+
+        private OrderedRunnableFactory(final RunnableFactory<T, F> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public final Runnable create(final RunId runId, final BarrierRelease<T> input, final Finalizer<F> finalizer) {
+            final ReleaseFinalizer<F> releaseFinalizer = new ReleaseFinalizer<>(finalizer, input);
+            try {
+                finalizer.onCancel(releaseFinalizer::release);
+                return this.factory.create(runId, input.getValue(), releaseFinalizer);
+            } catch (final Throwable exception) {
+                releaseFinalizer.release();
+                throw exception;
+            }
+        }
+
+        @Override
+        public final RunnableFactory<BarrierRelease<T>, F> withStats(final PipelineStats stats) {
+            return new OrderedRunnableFactory<>(this.factory.withStats(stats));
+        }
+    }
+
+    private static final class ReleaseRunnableFactory<R, F>
+            implements RunnableFactory<R, F> {
+
+        private final RunnableFactory<R, F> next;
+
+        private ReleaseRunnableFactory(final RunnableFactory<R, F> next) {
+            this.next = next;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final Runnable create(final RunId runId, final R result, final Finalizer<F> finalizer) {
+            final ReleaseFinalizer<F> releaseFinalizer = (ReleaseFinalizer<F>) finalizer;
+            releaseFinalizer.release();
+            return this.next.create(runId, result, releaseFinalizer.finalizer);
+        }
+
+        @Override
+        public final RunnableFactory<R, F> withStats(final PipelineStats stats) {
+            return new ReleaseRunnableFactory<>(this.next.withStats(stats));
+        }
+    }
+
+    private static final class ReleaseFinalizer<F>
+            implements Finalizer<F> {
+
+        private static final VarHandle RELEASED;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                RELEASED = l.findVarHandle(ReleaseFinalizer.class, "released", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Finalizer<F> finalizer;
+        private final Runnable release;
+        private volatile int released;
+
+        private ReleaseFinalizer(final Finalizer<F> finalizer, final Runnable release) {
+            this.finalizer = finalizer;
+            this.release = release;
+        }
+
+        private void release() {
+            if ((this.released == 0) && RELEASED.compareAndSet(this, 0, 1)) {
+                this.release.run();
+            }
+        }
+
+        @Override
+        public final void setResult(final F result) {
+            this.release();
+            this.finalizer.setResult(result);
+        }
+
+        @Override
+        public final void setError(final Throwable throwable) {
+            this.release();
+            this.finalizer.setError(throwable);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.finalizer.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.finalizer.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.finalizer.getDeadline();
+        }
+    }
+
     private static final class BarrierRelease<T> implements Runnable {
 
         private final T value;
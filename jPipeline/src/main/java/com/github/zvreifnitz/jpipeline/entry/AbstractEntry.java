@@ -2,12 +2,13 @@ package com.github.zvreifnitz.jpipeline.entry;
 
 import com.github.zvreifnitz.jcore.exc.Exceptions;
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.RunId;
 
 import java.util.concurrent.TimeUnit;
 
 public abstract class AbstractEntry<T, R> extends AbstractValue<T> implements PipelineEntry<T, R> {
 
-    protected AbstractEntry(final String runId, final T value) {
+    protected AbstractEntry(final RunId runId, final T value) {
         super(runId, value);
     }
 
@@ -1,17 +1,28 @@
 package com.github.zvreifnitz.jpipeline.entry;
 
+import com.github.zvreifnitz.jpipeline.RunId;
+
 public abstract class AbstractValue<T> implements Value<T> {
 
-    private final String runId;
+    private final RunId runId;
     private final T value;
 
     protected AbstractValue(final String runId, final T value) {
+        this(RunId.of(runId), value);
+    }
+
+    protected AbstractValue(final RunId runId, final T value) {
         this.runId = runId;
         this.value = value;
     }
 
     @Override
     public final String getRunId() {
+        return this.runId.toString();
+    }
+
+    @Override
+    public final RunId getRunKey() {
         return this.runId;
     }
 
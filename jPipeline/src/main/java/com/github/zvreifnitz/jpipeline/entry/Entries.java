@@ -71,7 +71,7 @@ public final class Entries {
         }
 
         private void peek(final R result) {
-            Funcs.peek(this.pipelineName, this.stepName, this.getRunId(), result, this.mapper, this.consumer);
+            Funcs.peek(this.pipelineName, this.stepName, this.getRunKey(), result, this.mapper, this.consumer);
         }
     }
 
@@ -16,7 +16,7 @@ public abstract class EntryWrapper<T, X, Y, R> extends AbstractEntry<T, R> {
             final PipelineEntry<X, Y> entry,
             final Function<X, T> inputConverter,
             final Merger<X, R, Y> merger) {
-        super(entry.getRunId(), inputConverter.apply(entry.get()));
+        super(entry.getRunKey(), inputConverter.apply(entry.get()));
         this.entry = entry;
         this.merger = merger;
     }
@@ -42,4 +42,19 @@ public abstract class EntryWrapper<T, X, Y, R> extends AbstractEntry<T, R> {
     public boolean tryRetry(final long time, final TimeUnit timeUnit) {
         return this.entry.tryRetry(time, timeUnit);
     }
+
+    @Override
+    public boolean isCancelled() {
+        return this.entry.isCancelled();
+    }
+
+    @Override
+    public void onCancel(final Runnable callback) {
+        this.entry.onCancel(callback);
+    }
+
+    @Override
+    public long getDeadline() {
+        return this.entry.getDeadline();
+    }
 }
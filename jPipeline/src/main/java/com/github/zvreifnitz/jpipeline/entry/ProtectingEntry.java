@@ -1,6 +1,7 @@
 package com.github.zvreifnitz.jpipeline.entry;
 
 import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.RunId;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
@@ -11,20 +12,25 @@ import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
 
 public abstract class ProtectingEntry<T, R> extends AbstractEntry<T, R> {
 
-    private static final VarHandle DONE;
+    private static final int CLAIMED = 1;
+    private static final int PUBLISHED = 2;
+    private static final int RETURNED = 4;
+
+    private static final VarHandle STATE;
 
     static {
         try {
             final MethodHandles.Lookup l = MethodHandles.lookup();
-            DONE = l.findVarHandle(ProtectingEntry.class, "done", Integer.TYPE);
+            STATE = l.findVarHandle(ProtectingEntry.class, "state", Integer.TYPE);
         } catch (final Exception exc) {
             throw Exceptions.staticCtorFail(exc);
         }
     }
 
-    private volatile int done;
+    private volatile int state;
+    private Thread inline;
 
-    protected ProtectingEntry(final String runId, final T input) {
+    protected ProtectingEntry(final RunId runId, final T input) {
         super(runId, input);
     }
 
@@ -32,7 +38,7 @@ public abstract class ProtectingEntry<T, R> extends AbstractEntry<T, R> {
     public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
         checkArgument(time >= 0L, "time", "Value must be positive.");
         checkNullPointer(timeUnit, "timeUnit");
-        if (this.setDone()) {
+        if (this.claim()) {
             this.processResult(result, time, timeUnit);
             return true;
         } else {
@@ -43,7 +49,8 @@ public abstract class ProtectingEntry<T, R> extends AbstractEntry<T, R> {
     @Override
     public boolean tryStop(final Throwable throwable) {
         checkNullPointer(throwable, "throwable");
-        if (this.setDone()) {
+        if (this.claim()) {
+            this.publish();
             this.processException(throwable);
             return true;
         } else {
@@ -55,7 +62,7 @@ public abstract class ProtectingEntry<T, R> extends AbstractEntry<T, R> {
     public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
         checkArgument(time >= 0L, "time", "Value must be positive.");
         checkNullPointer(timeUnit, "timeUnit");
-        if (this.setDone()) {
+        if (this.claim()) {
             this.processRetry(time, timeUnit);
             return true;
         } else {
@@ -70,10 +77,46 @@ public abstract class ProtectingEntry<T, R> extends AbstractEntry<T, R> {
     protected abstract void processRetry(final long time, final TimeUnit timeUnit);
 
     protected final boolean isDone() {
-        return (this.done > 0);
+        return ((this.state & CLAIMED) != 0);
+    }
+
+    protected final boolean isReturned() {
+        return ((this.state & RETURNED) != 0);
+    }
+
+    protected final void enterInline() {
+        this.inline = Thread.currentThread();
+    }
+
+    protected final void exitInline() {
+        this.inline = null;
+    }
+
+    protected final boolean publish() {
+        if (this.inline == Thread.currentThread()) {
+            final int s = (int) STATE.getAcquire(this);
+            if ((s & CLAIMED) != 0) {
+                STATE.setRelease(this, s | PUBLISHED);
+                return false;
+            }
+        }
+        return ((((int) STATE.getAndBitwiseOr(this, PUBLISHED)) & RETURNED) != 0);
+    }
+
+    protected final boolean handOff() {
+        this.exitInline();
+        return ((((int) STATE.getAcquire(this)) & PUBLISHED) != 0)
+                || ((((int) STATE.getAndBitwiseOr(this, RETURNED)) & PUBLISHED) != 0);
     }
 
-    private boolean setDone() {
-        return ((this.done == 0) && DONE.compareAndSet(this, 0, 1));
+    private boolean claim() {
+        int s;
+        do {
+            s = this.state;
+            if ((s & CLAIMED) != 0) {
+                return false;
+            }
+        } while (!STATE.compareAndSet(this, s, s | CLAIMED));
+        return true;
     }
 }
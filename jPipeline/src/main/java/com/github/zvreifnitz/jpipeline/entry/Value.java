@@ -1,16 +1,26 @@
 package com.github.zvreifnitz.jpipeline.entry;
 
+import com.github.zvreifnitz.jpipeline.RunId;
+
 import java.util.function.Supplier;
 
 public interface Value<T> extends Supplier<T> {
     static <A> Value<A> create(final String runId, final A input) {
+        return new DefaultValue<>(RunId.of(runId), input);
+    }
+
+    static <A> Value<A> create(final RunId runId, final A input) {
         return new DefaultValue<>(runId, input);
     }
 
     String getRunId();
 
+    default RunId getRunKey() {
+        return RunId.of(this.getRunId());
+    }
+
     final class DefaultValue<A> extends AbstractValue<A> {
-        private DefaultValue(final String runId, final A value) {
+        private DefaultValue(final RunId runId, final A value) {
             super(runId, value);
         }
     }
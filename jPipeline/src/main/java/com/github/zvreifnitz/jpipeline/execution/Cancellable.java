@@ -0,0 +1,12 @@
+package com.github.zvreifnitz.jpipeline.execution;
+
+public interface Cancellable {
+
+    Cancellable NONE = () -> false;
+
+    boolean cancel();
+
+    default boolean isDone() {
+        return false;
+    }
+}
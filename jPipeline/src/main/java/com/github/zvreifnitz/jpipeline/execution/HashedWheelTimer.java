@@ -0,0 +1,259 @@
+package com.github.zvreifnitz.jpipeline.execution;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+import static com.github.zvreifnitz.jcore.Preconditions.checkState;
+
+public final class HashedWheelTimer implements AutoCloseable {
+
+    private static final VarHandle PENDING;
+    private static final VarHandle SLEEPING;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            PENDING = l.findVarHandle(HashedWheelTimer.class, "pending", Timeout.class);
+            SLEEPING = l.findVarHandle(HashedWheelTimer.class, "sleeping", Boolean.TYPE);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final long tickNanos;
+    private final int mask;
+    private final Timeout[] wheel;
+    private final long startTime;
+    private final Thread worker;
+    private final Map<Executor, List<Runnable>> batches = new IdentityHashMap<>();
+    private volatile Timeout pending;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+    private long tick;
+    private long count;
+
+    public HashedWheelTimer(final String name, final long tickDuration, final TimeUnit timeUnit, final int wheelSize) {
+        checkNullPointer(name, "name");
+        checkNullPointer(timeUnit, "timeUnit");
+        checkArgument(tickDuration > 0L, "tickDuration", "Value must be positive");
+        checkArgument((wheelSize > 0) && (Integer.bitCount(wheelSize) == 1), "wheelSize", "Value must be a power of two");
+        this.tickNanos = timeUnit.toNanos(tickDuration);
+        this.mask = wheelSize - 1;
+        this.wheel = new Timeout[wheelSize];
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::work, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public static HashedWheelTimer shared() {
+        return Shared.INSTANCE;
+    }
+
+    public final Timeout schedule(final Executor executor, final Runnable runnable, final long time, final TimeUnit timeUnit) {
+        checkNullPointer(executor, "executor");
+        checkNullPointer(runnable, "runnable");
+        checkNullPointer(timeUnit, "timeUnit");
+        checkState(!this.closed, "Timer is closed");
+        final Timeout timeout = new Timeout(executor, runnable, System.nanoTime() + timeUnit.toNanos(time));
+        Timeout head;
+        do {
+            head = this.pending;
+            timeout.next = head;
+        } while (!PENDING.weakCompareAndSet(this, head, timeout));
+        if (this.sleeping && SLEEPING.compareAndSet(this, true, false)) {
+            LockSupport.unpark(this.worker);
+        }
+        return timeout;
+    }
+
+    @Override
+    public final void close() {
+        checkState(this != Shared.INSTANCE, "Shared timer cannot be closed");
+        this.closed = true;
+        LockSupport.unpark(this.worker);
+    }
+
+    private void work() {
+        while (!this.closed) {
+            this.transferPending();
+            if (this.count == 0L) {
+                this.sleep();
+                this.tick = this.currentTick();
+                continue;
+            }
+            final long delay = (this.startTime + ((this.tick + 1L) * this.tickNanos)) - System.nanoTime();
+            if (delay > 0L) {
+                LockSupport.parkNanos(this, delay);
+                continue;
+            }
+            this.tick++;
+            this.expire((int) (this.tick & this.mask));
+            this.dispatch();
+        }
+    }
+
+    private void sleep() {
+        this.sleeping = true;
+        if ((this.pending == null) && !this.closed) {
+            LockSupport.park(this);
+        }
+        this.sleeping = false;
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - this.startTime) / this.tickNanos;
+    }
+
+    private void transferPending() {
+        Timeout timeout = (Timeout) PENDING.getAndSet(this, null);
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            if (!timeout.isCancelled()) {
+                final long ticks = Math.max(
+                        this.tick + 1L, (timeout.deadline - this.startTime + this.tickNanos - 1L) / this.tickNanos);
+                final int index = (int) (ticks & this.mask);
+                timeout.rounds = (ticks - this.tick - 1L) >>> Integer.numberOfTrailingZeros(this.wheel.length);
+                timeout.next = this.wheel[index];
+                this.wheel[index] = timeout;
+                this.count++;
+            }
+            timeout = next;
+        }
+    }
+
+    private void expire(final int index) {
+        Timeout prev = null;
+        Timeout timeout = this.wheel[index];
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            if ((timeout.rounds <= 0L) || timeout.isCancelled()) {
+                if (prev == null) {
+                    this.wheel[index] = next;
+                } else {
+                    prev.next = next;
+                }
+                timeout.next = null;
+                this.count--;
+                if (timeout.expire()) {
+                    this.batches.computeIfAbsent(timeout.executor, e -> new ArrayList<>()).add(timeout.runnable);
+                }
+            } else {
+                timeout.rounds--;
+                prev = timeout;
+            }
+            timeout = next;
+        }
+    }
+
+    private void dispatch() {
+        if (this.batches.isEmpty()) {
+            return;
+        }
+        for (final Map.Entry<Executor, List<Runnable>> batch : this.batches.entrySet()) {
+            dispatch(batch.getKey(), batch.getValue());
+        }
+        this.batches.clear();
+    }
+
+    private static void dispatch(final Executor executor, final List<Runnable> runnables) {
+        if (executor instanceof PipelineExecutor) {
+            try {
+                ((PipelineExecutor) executor).execute(runnables);
+            } catch (final Exception exception) {
+                for (final Runnable runnable : runnables) {
+                    reject(runnable, exception);
+                }
+            }
+            return;
+        }
+        for (final Runnable runnable : runnables) {
+            try {
+                executor.execute(runnable);
+            } catch (final Exception exception) {
+                reject(runnable, exception);
+            }
+        }
+    }
+
+    private static void reject(final Runnable runnable, final Throwable cause) {
+        if (runnable instanceof Rejectable) {
+            try {
+                ((Rejectable) runnable).reject(cause);
+            } catch (final Exception ignored) {
+            }
+        }
+    }
+
+    public static final class Timeout implements Cancellable {
+
+        private static final int SCHEDULED = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                STATE = l.findVarHandle(Timeout.class, "state", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Executor executor;
+        private final Runnable runnable;
+        private final long deadline;
+        private volatile int state = SCHEDULED;
+        private Timeout next;
+        private long rounds;
+
+        private Timeout(final Executor executor, final Runnable runnable, final long deadline) {
+            this.executor = executor;
+            this.runnable = runnable;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public final boolean cancel() {
+            return STATE.compareAndSet(this, SCHEDULED, CANCELLED);
+        }
+
+        public final boolean isCancelled() {
+            return (this.state == CANCELLED);
+        }
+
+        public final boolean isExpired() {
+            return (this.state == EXPIRED);
+        }
+
+        @Override
+        public final boolean isDone() {
+            return (this.state != SCHEDULED);
+        }
+
+        private boolean expire() {
+            return STATE.compareAndSet(this, SCHEDULED, EXPIRED);
+        }
+    }
+
+    private static final class Shared {
+
+        private static final HashedWheelTimer INSTANCE =
+                new HashedWheelTimer("jPipeline-timer", 1L, TimeUnit.MILLISECONDS, 1024);
+
+        private Shared() {
+        }
+    }
+}
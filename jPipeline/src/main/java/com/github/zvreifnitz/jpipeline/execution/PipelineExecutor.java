@@ -15,6 +15,16 @@ public interface PipelineExecutor extends Executor, AutoCloseable {
         }
     }
 
+    static Cancellable executeOrScheduleCancellable(
+            final PipelineExecutor executor, final Runnable runnable, final long time, final TimeUnit timeUnit) {
+        if (time > 0L) {
+            return executor.scheduleCancellable(runnable, time, timeUnit);
+        } else {
+            executor.execute(runnable);
+            return Cancellable.NONE;
+        }
+    }
+
     static PipelineExecutor defaultExecutor() {
         return DefaultPipelineExecutor.get();
     }
@@ -26,6 +36,11 @@ public interface PipelineExecutor extends Executor, AutoCloseable {
 
     void schedule(final Runnable runnable, final long time, final TimeUnit timeUnit);
 
+    default Cancellable scheduleCancellable(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+        this.schedule(runnable, time, timeUnit);
+        return Cancellable.NONE;
+    }
+
     @Override
     void close();
 }
@@ -2,12 +2,12 @@ package com.github.zvreifnitz.jpipeline.execution;
 
 import com.github.zvreifnitz.jcore.Preconditions;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.Executor;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
 
 import static com.github.zvreifnitz.jcore.Preconditions.*;
 
@@ -27,6 +27,42 @@ public final class PipelineExecutors {
         return new WrappedExecutor(executor);
     }
 
+    public static PipelineExecutor virtualThreads() {
+        return new VirtualThreadExecutor(VirtualThreads.newExecutor());
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return (VirtualThreads.FACTORY != null);
+    }
+
+    private static final class VirtualThreads {
+
+        private static final MethodHandle FACTORY = lookupFactory();
+
+        private VirtualThreads() {
+        }
+
+        private static MethodHandle lookupFactory() {
+            try {
+                return MethodHandles.publicLookup().findStatic(
+                        Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            } catch (final NoSuchMethodException | IllegalAccessException exc) {
+                return null;
+            }
+        }
+
+        private static ExecutorService newExecutor() {
+            checkState(FACTORY != null, "Virtual threads are not supported by this JVM");
+            try {
+                return (ExecutorService) FACTORY.invokeExact();
+            } catch (final RuntimeException | Error exc) {
+                throw exc;
+            } catch (final Throwable exc) {
+                throw new IllegalStateException(exc);
+            }
+        }
+    }
+
     private abstract static class WrappedCloseable
             implements AutoCloseable {
 
@@ -66,8 +102,13 @@ public final class PipelineExecutors {
 
         @Override
         public final void schedule(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            this.scheduleCancellable(runnable, time, timeUnit);
+        }
+
+        @Override
+        public final Cancellable scheduleCancellable(final Runnable runnable, final long time, final TimeUnit timeUnit) {
             this.checkOpen();
-            this.executor.schedule(runnable, time, timeUnit);
+            return this.executor.scheduleCancellable(runnable, time, timeUnit);
         }
     }
 
@@ -76,11 +117,9 @@ public final class PipelineExecutors {
             implements PipelineExecutor {
 
         private final Executor executor;
-        private final Timer timer;
 
         private WrappedExecutor(final Executor executor) {
             this.executor = executor;
-            this.timer = new Timer(true);
         }
 
         @Override
@@ -101,21 +140,16 @@ public final class PipelineExecutors {
 
         @Override
         public final void schedule(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            this.scheduleCancellable(runnable, time, timeUnit);
+        }
+
+        @Override
+        public final Cancellable scheduleCancellable(final Runnable runnable, final long time, final TimeUnit timeUnit) {
             checkNullPointer(runnable, "runnable");
             checkNullPointer(timeUnit, "timeUnit");
             checkArgument(time > 0, "time", "Value must be positive");
             this.checkOpen();
-            this.timer.schedule(toTask(runnable), timeUnit.toMillis(time));
-        }
-
-        @Override
-        public final void close() {
-            super.close();
-            this.timer.cancel();
-        }
-
-        private TimerTask toTask(final Runnable runnable) {
-            return new DelayTask(this.executor, runnable);
+            return HashedWheelTimer.shared().schedule(this, runnable, time, timeUnit);
         }
     }
 
@@ -147,27 +181,108 @@ public final class PipelineExecutors {
 
         @Override
         public final void schedule(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            this.scheduleCancellable(runnable, time, timeUnit);
+        }
+
+        @Override
+        public final Cancellable scheduleCancellable(final Runnable runnable, final long time, final TimeUnit timeUnit) {
             checkNullPointer(runnable, "runnable");
             checkNullPointer(timeUnit, "timeUnit");
             checkArgument(time > 0, "time", "Value must be positive");
             this.checkOpen();
-            this.scheduledExecutorService.schedule(runnable, time, timeUnit);
+            return new FutureCancellable(this.scheduledExecutorService.schedule(runnable, time, timeUnit), false);
         }
     }
 
-    private static final class DelayTask extends TimerTask {
+    private static final class VirtualThreadExecutor
+            extends WrappedCloseable
+            implements PipelineExecutor {
+
+        private final ExecutorService executorService;
+
+        private VirtualThreadExecutor(final ExecutorService executorService) {
+            this.executorService = executorService;
+        }
+
+        @Override
+        public final void execute(final Runnable runnable) {
+            checkNullPointer(runnable, "runnable");
+            this.checkOpen();
+            this.executorService.execute(runnable);
+        }
+
+        @Override
+        public final void execute(final List<? extends Runnable> runnables) {
+            checkCollection(runnables, "runnables");
+            this.checkOpen();
+            for (final Runnable runnable : runnables) {
+                this.executorService.execute(runnable);
+            }
+        }
+
+        @Override
+        public final void schedule(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            this.scheduleCancellable(runnable, time, timeUnit);
+        }
+
+        @Override
+        public final Cancellable scheduleCancellable(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            checkNullPointer(runnable, "runnable");
+            checkNullPointer(timeUnit, "timeUnit");
+            checkArgument(time > 0, "time", "Value must be positive");
+            this.checkOpen();
+            return new FutureCancellable(
+                    this.executorService.submit(new SleepTask(runnable, System.nanoTime() + timeUnit.toNanos(time))), true);
+        }
+
+        @Override
+        public final void close() {
+            super.close();
+            this.executorService.shutdown();
+        }
+    }
+
+    private static final class FutureCancellable implements Cancellable {
+
+        private final Future<?> future;
+        private final boolean interrupt;
+
+        private FutureCancellable(final Future<?> future, final boolean interrupt) {
+            this.future = future;
+            this.interrupt = interrupt;
+        }
+
+        @Override
+        public final boolean cancel() {
+            return this.future.cancel(this.interrupt);
+        }
+
+        @Override
+        public final boolean isDone() {
+            return this.future.isDone();
+        }
+    }
+
+    private static final class SleepTask implements Runnable {
 
-        private final Executor executor;
         private final Runnable runnable;
+        private final long deadline;
 
-        private DelayTask(final Executor executor, final Runnable runnable) {
-            this.executor = executor;
+        private SleepTask(final Runnable runnable, final long deadline) {
             this.runnable = runnable;
+            this.deadline = deadline;
         }
 
         @Override
         public final void run() {
-            this.executor.execute(this.runnable);
+            long remaining;
+            while ((remaining = this.deadline - System.nanoTime()) > 0L) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) {
+                    return;
+                }
+            }
+            this.runnable.run();
         }
     }
 }
@@ -0,0 +1,6 @@
+package com.github.zvreifnitz.jpipeline.execution;
+
+public interface Rejectable {
+
+    void reject(final Throwable cause);
+}
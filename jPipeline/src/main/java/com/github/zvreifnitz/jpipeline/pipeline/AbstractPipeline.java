@@ -3,13 +3,29 @@ package com.github.zvreifnitz.jpipeline.pipeline;
 import com.github.zvreifnitz.jcore.Preconditions;
 import com.github.zvreifnitz.jpipeline.Pipeline;
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.RunId;
+import com.github.zvreifnitz.jpipeline.RunIdGenerator;
 
-import java.util.UUID;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public abstract class AbstractPipeline<T, R> implements Pipeline<T, R> {
 
+    private final PipelineStats stats = new PipelineStats();
+    private final RunIdGenerator runIdGenerator;
+
+    protected AbstractPipeline(final RunIdGenerator runIdGenerator) {
+        this.runIdGenerator = runIdGenerator;
+    }
+
+    protected AbstractPipeline(final PipelineOptions options) {
+        this.runIdGenerator = options.getRunIdGenerator();
+    }
+
     @Override
     public final Future<R> execute(final T input) {
         return this.execute(null, input);
@@ -22,6 +38,33 @@ public abstract class AbstractPipeline<T, R> implements Pipeline<T, R> {
         return result;
     }
 
+    @Override
+    public final Future<R> execute(final String runId, final T input, final long timeout, final TimeUnit timeUnit) {
+        final Finalizer.FinalizerFuture<R> result = Finalizers.future();
+        this.execute(runId, input, result, timeout, timeUnit);
+        return result;
+    }
+
+    @Override
+    public final CompletableFuture<R> executeCompletable(final T input) {
+        return this.executeCompletable(null, input);
+    }
+
+    @Override
+    public final CompletableFuture<R> executeCompletable(final String runId, final T input) {
+        final CompletableFinalizer<R> result = Finalizers.completable();
+        this.execute(runId, input, result);
+        return result;
+    }
+
+    @Override
+    public final CompletableFuture<R> executeCompletable(
+            final String runId, final T input, final long timeout, final TimeUnit timeUnit) {
+        final CompletableFinalizer<R> result = Finalizers.completable();
+        this.execute(runId, input, result, timeout, timeUnit);
+        return result;
+    }
+
     @Override
     public final void executeAsync(final T input, final Consumer<Future<R>> consumer) {
         this.executeAsync(null, input, consumer);
@@ -33,20 +76,84 @@ public abstract class AbstractPipeline<T, R> implements Pipeline<T, R> {
         this.execute(runId, input, Finalizers.fromConsumer(consumer));
     }
 
+    @Override
+    public final Future<List<R>> executeAll(final List<? extends T> inputs) {
+        final Finalizer.FinalizerFuture<List<R>> result = Finalizers.future();
+        this.executeAll(inputs, result);
+        return result;
+    }
+
+    @Override
+    public final void executeAllAsync(final List<? extends T> inputs, final Consumer<Future<List<R>>> consumer) {
+        Preconditions.checkNullPointer(consumer, "consumer");
+        this.executeAll(inputs, Finalizers.fromConsumer(consumer));
+    }
+
+    @Override
+    public final PipelineStats getStats() {
+        return this.stats;
+    }
+
     @Override
     public final void process(final PipelineEntry<T, R> entry) {
         Preconditions.checkNullPointer(entry, "entry");
-        this.execute(entry.getRunId(), entry.get(), Finalizers.fromPipelineEntry(entry));
+        this.execute(entry.getRunKey(), entry.get(), Finalizers.fromPipelineEntry(entry));
     }
 
     private void execute(final String runId, final T input, final Finalizer<R> finalizer) {
         try {
-            final String id = (runId == null) ? UUID.randomUUID().toString() : runId;
+            this.execute((runId == null) ? null : RunId.of(runId), input, finalizer);
+        } catch (final Exception e) {
+            finalizer.setError(e);
+        }
+    }
+
+    private void execute(final RunId runId, final T input, final Finalizer<R> finalizer) {
+        try {
+            final RunId id = (runId == null) ? this.nextRunId() : runId;
             this.doExecute(id, input, finalizer);
         } catch (final Exception e) {
             finalizer.setError(e);
         }
     }
 
-    protected abstract void doExecute(final String runId, final T input, final Finalizer<R> finalizer);
+    private void execute(
+            final String runId, final T input, final Finalizer<R> finalizer, final long timeout, final TimeUnit timeUnit) {
+        try {
+            final long deadline = Deadlines.fromTimeout(timeout, timeUnit);
+            this.execute(runId, input, Finalizers.withDeadline(finalizer, deadline, this.stats));
+        } catch (final Exception e) {
+            finalizer.setError(e);
+        }
+    }
+
+    private void executeAll(final List<? extends T> inputs, final Finalizer<List<R>> finalizer) {
+        try {
+            Preconditions.checkNullPointer(inputs, "inputs");
+            if (inputs.isEmpty()) {
+                finalizer.setResult(Collections.emptyList());
+                return;
+            }
+            this.doExecuteAll(inputs, Finalizers.batch(inputs.size(), finalizer));
+        } catch (final Exception e) {
+            finalizer.setError(e);
+        }
+    }
+
+    protected final RunId nextRunId() {
+        return this.runIdGenerator.next();
+    }
+
+    protected void doExecuteAll(final List<? extends T> inputs, final BatchFinalizer<R> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            final Finalizer<R> finalizer = batch.get(i);
+            try {
+                this.doExecute(this.nextRunId(), inputs.get(i), finalizer);
+            } catch (final Exception e) {
+                finalizer.setError(e);
+            }
+        }
+    }
+
+    protected abstract void doExecute(final RunId runId, final T input, final Finalizer<R> finalizer);
 }
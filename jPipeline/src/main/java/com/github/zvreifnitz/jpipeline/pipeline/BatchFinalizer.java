@@ -0,0 +1,103 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+
+public final class BatchFinalizer<R> {
+
+    private static final VarHandle REMAINING;
+    private static final VarHandle ERROR;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            REMAINING = l.findVarHandle(BatchFinalizer.class, "remaining", Integer.TYPE);
+            ERROR = l.findVarHandle(BatchFinalizer.class, "error", Throwable.class);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final Finalizer<List<R>> finalizer;
+    private final Object[] results;
+    private volatile int remaining;
+    private volatile Throwable error;
+
+    BatchFinalizer(final int size, final Finalizer<List<R>> finalizer) {
+        this.finalizer = finalizer;
+        this.results = new Object[size];
+        this.remaining = size;
+    }
+
+    public final int size() {
+        return this.results.length;
+    }
+
+    public final Finalizer<R> get(final int index) {
+        return new Slot<>(this, index);
+    }
+
+    private void setResult(final int index, final R result) {
+        this.results[index] = result;
+        this.countDown();
+    }
+
+    private void setError(final Throwable throwable) {
+        ERROR.compareAndSet(this, null, throwable);
+        this.countDown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void countDown() {
+        if (((int) REMAINING.getAndAdd(this, -1)) != 1) {
+            return;
+        }
+        final Throwable throwable = this.error;
+        if (throwable != null) {
+            this.finalizer.setError(throwable);
+        } else {
+            this.finalizer.setResult((List<R>) Arrays.asList(this.results));
+        }
+    }
+
+    private static final class Slot<R>
+            implements Finalizer<R> {
+
+        private final BatchFinalizer<R> batch;
+        private final int index;
+
+        private Slot(final BatchFinalizer<R> batch, final int index) {
+            this.batch = batch;
+            this.index = index;
+        }
+
+        @Override
+        public final void setResult(final R result) {
+            this.batch.setResult(this.index, result);
+        }
+
+        @Override
+        public final void setError(final Throwable throwable) {
+            this.batch.setError(throwable);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.batch.finalizer.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.batch.finalizer.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.batch.finalizer.getDeadline();
+        }
+    }
+}
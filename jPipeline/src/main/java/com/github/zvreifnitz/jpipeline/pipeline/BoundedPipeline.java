@@ -0,0 +1,186 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import com.github.zvreifnitz.jcore.concurrent.StripedLimiter;
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.RunId;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.ToLongFunction;
+
+public final class BoundedPipeline<T, R> extends AbstractPipeline<T, R> {
+
+    private final PipelineExecutor executor;
+    private final RunnableFactory<T, R> runnableFactory;
+    private final StripedLimiter runs;
+    private final ToLongFunction<T> weigher;
+    private final StripedLimiter weights;
+    private final OverflowPolicy policy;
+
+    public BoundedPipeline(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final long maxRuns, final OverflowPolicy policy) {
+        this(executor, runnableFactory, maxRuns, null, 0L, policy);
+    }
+
+    public BoundedPipeline(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy) {
+        this(executor, runnableFactory, maxRuns, weigher, maxWeight, policy, PipelineOptions.defaults());
+    }
+
+    public BoundedPipeline(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy,
+            final PipelineOptions options) {
+        super(options);
+        this.executor = executor;
+        this.runnableFactory = runnableFactory.withStats(this.getStats());
+        this.runs = new StripedLimiter(maxRuns);
+        this.weigher = weigher;
+        this.weights = (weigher == null) ? null : new StripedLimiter(maxWeight);
+        this.policy = policy;
+    }
+
+    @Override
+    public final void close() {
+        this.executor.close();
+    }
+
+    public final long getRunsInFlight() {
+        return this.runs.getUsed();
+    }
+
+    @Override
+    protected final void doExecute(final RunId runId, final T input, final Finalizer<R> finalizer) {
+        final long weight = (this.weigher == null) ? 0L : this.weigher.applyAsLong(input);
+        if ((this.weights != null) && (weight > this.weights.getLimit()) && (this.policy != OverflowPolicy.CALLER_RUNS)) {
+            throw new RejectedExecutionException("Run weight exceeds pipeline capacity");
+        }
+        final int runStripe = this.acquire(this.runs, 1L);
+        if (runStripe == StripedLimiter.NONE) {
+            this.overflow(runId, input, finalizer, weight);
+            return;
+        }
+        final int weightStripe = (this.weights == null) ? StripedLimiter.NONE : this.acquire(this.weights, weight);
+        if ((this.weights != null) && (weightStripe == StripedLimiter.NONE)) {
+            this.runs.release(runStripe, 1L);
+            this.overflow(runId, input, finalizer, weight);
+            return;
+        }
+        final PermitFinalizer<R> permit = new PermitFinalizer<>(finalizer, this, runStripe, weightStripe, weight);
+        try {
+            this.executor.execute(this.runnableFactory.create(runId, input, permit));
+        } catch (final Throwable exception) {
+            permit.run();
+            throw exception;
+        }
+    }
+
+    private int acquire(final StripedLimiter limiter, final long weight) {
+        if (this.policy != OverflowPolicy.BLOCK) {
+            return limiter.tryAcquire(weight);
+        }
+        try {
+            return limiter.acquire(weight);
+        } catch (final InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            return StripedLimiter.NONE;
+        }
+    }
+
+    private void overflow(final RunId runId, final T input, final Finalizer<R> finalizer, final long weight) {
+        if (this.policy == OverflowPolicy.CALLER_RUNS) {
+            final int runStripe = this.runs.forceAcquire(1L);
+            final int weightStripe = (this.weights == null) ? StripedLimiter.NONE : this.weights.forceAcquire(weight);
+            final PermitFinalizer<R> permit = new PermitFinalizer<>(finalizer, this, runStripe, weightStripe, weight);
+            try {
+                this.runnableFactory.create(runId, input, permit).run();
+            } catch (final Throwable exception) {
+                permit.run();
+                throw exception;
+            }
+        } else if (this.policy == OverflowPolicy.FAIL) {
+            throw new RejectedExecutionException("Pipeline is at capacity");
+        } else {
+            throw new RejectedExecutionException("Interrupted while waiting for pipeline capacity");
+        }
+    }
+
+    private void release(final int runStripe, final int weightStripe, final long weight) {
+        this.runs.release(runStripe, 1L);
+        if (this.weights != null) {
+            this.weights.release(weightStripe, weight);
+        }
+    }
+
+    private static final class PermitFinalizer<R>
+            implements Finalizer<R>, Runnable {
+
+        private static final VarHandle RELEASED;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                RELEASED = l.findVarHandle(PermitFinalizer.class, "released", Boolean.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Finalizer<R> finalizer;
+        private final BoundedPipeline<?, R> pipeline;
+        private final int runStripe;
+        private final int weightStripe;
+        private final long weight;
+        private volatile boolean released;
+
+        private PermitFinalizer(
+                final Finalizer<R> finalizer, final BoundedPipeline<?, R> pipeline,
+                final int runStripe, final int weightStripe, final long weight) {
+            this.finalizer = finalizer;
+            this.pipeline = pipeline;
+            this.runStripe = runStripe;
+            this.weightStripe = weightStripe;
+            this.weight = weight;
+            finalizer.onCancel(this);
+        }
+
+        @Override
+        public final void setResult(final R result) {
+            this.run();
+            this.finalizer.setResult(result);
+        }
+
+        @Override
+        public final void setError(final Throwable throwable) {
+            this.run();
+            this.finalizer.setError(throwable);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.finalizer.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.finalizer.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.finalizer.getDeadline();
+        }
+
+        @Override
+        public final void run() {
+            if (RELEASED.compareAndSet(this, false, true)) {
+                this.pipeline.release(this.runStripe, this.weightStripe, this.weight);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+final class CancelCallbacks {
+
+    private static final VarHandle HEAD;
+    private static final Node CLOSED = new Node(null, null);
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            HEAD = l.findVarHandle(CancelCallbacks.class, "head", Node.class);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private volatile Node head;
+
+    CancelCallbacks() {
+    }
+
+    final boolean add(final Runnable callback) {
+        Node current;
+        do {
+            current = this.head;
+            if (current == CLOSED) {
+                return false;
+            }
+        } while (!HEAD.weakCompareAndSet(this, current, new Node(callback, live(current))));
+        return true;
+    }
+
+    private static Node live(final Node head) {
+        Node node = head;
+        while ((node != null) && node.isDone()) {
+            node = node.next;
+        }
+        return node;
+    }
+
+    final void cancel() {
+        Node node = (Node) HEAD.getAndSet(this, CLOSED);
+        while ((node != null) && (node != CLOSED)) {
+            try {
+                node.callback.run();
+            } catch (final Throwable exception) {
+                Exceptions.rethrowIfError(exception);
+            }
+            node = node.next;
+        }
+    }
+
+    final void clear() {
+        if (this.head != CLOSED) {
+            this.head = CLOSED;
+        }
+    }
+
+    private static final class Node {
+
+        private final Runnable callback;
+        private final Node next;
+
+        private Node(final Runnable callback, final Node next) {
+            this.callback = callback;
+            this.next = next;
+        }
+
+        private boolean isDone() {
+            return (this.callback instanceof Cancellable) && ((Cancellable) this.callback).isDone();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public final class CompletableFinalizer<R> extends CompletableFuture<R> implements Finalizer<R> {
+
+    private final CancelCallbacks callbacks = new CancelCallbacks();
+
+    CompletableFinalizer() {
+    }
+
+    @Override
+    public final boolean cancel(final boolean interrupt) {
+        final boolean result = super.cancel(interrupt);
+        if (result) {
+            this.callbacks.cancel();
+        }
+        return result;
+    }
+
+    @Override
+    public final void onCancel(final Runnable callback) {
+        if (!this.callbacks.add(callback) && this.isCancelled()) {
+            callback.run();
+        }
+    }
+
+    @Override
+    public final void setResult(final R result) {
+        if (this.complete(result)) {
+            this.callbacks.clear();
+        }
+    }
+
+    @Override
+    public final void setError(final Throwable throwable) {
+        final Throwable cause = ((throwable instanceof ExecutionException) && (throwable.getCause() != null))
+                ? throwable.getCause() : throwable;
+        if (this.completeExceptionally(cause)) {
+            this.callbacks.clear();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import java.util.concurrent.TimeoutException;
+
+public final class DeadlineExceededException extends TimeoutException {
+    static final long serialVersionUID = 4094375413468215716L;
+
+    public DeadlineExceededException() {
+        super("Run deadline exceeded");
+    }
+
+    @Override
+    public final synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+
+public final class Deadlines {
+
+    private Deadlines() {
+    }
+
+    public static long fromTimeout(final long timeout, final TimeUnit timeUnit) {
+        checkArgument(timeout >= 0L, "timeout", "Value must not be negative.");
+        checkNullPointer(timeUnit, "timeUnit");
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        return (deadline == PipelineEntry.NO_DEADLINE) ? (deadline - 1L) : deadline;
+    }
+
+    public static boolean isExpired(final long deadline) {
+        return (deadline != PipelineEntry.NO_DEADLINE) && ((deadline - System.nanoTime()) <= 0L);
+    }
+
+    public static boolean isExpired(final long deadline, final long delay, final TimeUnit timeUnit) {
+        return (deadline != PipelineEntry.NO_DEADLINE)
+                && ((deadline - System.nanoTime() - timeUnit.toNanos(delay)) <= 0L);
+    }
+
+    public static DeadlineExceededException exceeded() {
+        return new DeadlineExceededException();
+    }
+}
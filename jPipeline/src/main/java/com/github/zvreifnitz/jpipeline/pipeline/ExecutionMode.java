@@ -0,0 +1,6 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+public enum ExecutionMode {
+    STEP,
+    FRAME
+}
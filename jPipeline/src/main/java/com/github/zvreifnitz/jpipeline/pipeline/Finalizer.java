@@ -1,5 +1,7 @@
 package com.github.zvreifnitz.jpipeline.pipeline;
 
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+
 import java.util.concurrent.Future;
 
 public interface Finalizer<R> {
@@ -7,6 +9,19 @@ public interface Finalizer<R> {
 
     void setError(final Throwable throwable);
 
+    default boolean isCancelled() {
+        return false;
+    }
+
+    default void onCancel(final Runnable callback) {
+    }
+
+    default long getDeadline() {
+        return PipelineEntry.NO_DEADLINE;
+    }
+
     interface FinalizerFuture<Q> extends Finalizer<Q>, Future<Q> {
+        @Override
+        boolean isCancelled();
     }
 }
@@ -1,8 +1,12 @@
 package com.github.zvreifnitz.jpipeline.pipeline;
 
 import com.github.zvreifnitz.jcore.concurrent.Futures;
+import com.github.zvreifnitz.jcore.exc.Exceptions;
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.Consumer;
 
@@ -15,10 +19,29 @@ public final class Finalizers {
         return new FutureFinalizer<>();
     }
 
+    public static <R> CompletableFinalizer<R> completable() {
+        return new CompletableFinalizer<>();
+    }
+
     public static <R> Finalizer<R> fromConsumer(final Consumer<Future<R>> consumer) {
         return new ConsumerFinalizer<>(consumer);
     }
 
+    public static <R> BatchFinalizer<R> batch(final int size, final Finalizer<List<R>> finalizer) {
+        return new BatchFinalizer<>(size, finalizer);
+    }
+
+    public static <R> Finalizer<R> withDeadline(final Finalizer<R> finalizer, final long deadline) {
+        return withDeadline(finalizer, deadline, null);
+    }
+
+    static <R> Finalizer<R> withDeadline(final Finalizer<R> finalizer, final long deadline, final PipelineStats stats) {
+        if (deadline == PipelineEntry.NO_DEADLINE) {
+            return finalizer;
+        }
+        return new DeadlineFinalizer<>(finalizer, deadline, stats);
+    }
+
     public static <R> Finalizer<R> fromPipelineEntry(final PipelineEntry<?, R> entry) {
         return new PipelineEntryFinalizer<>(entry);
     }
@@ -26,7 +49,23 @@ public final class Finalizers {
     private static final class FutureFinalizer<R>
             implements Finalizer.FinalizerFuture<R>, Finalizer<R>, Future<R> {
 
+        private static final int PENDING = 0;
+        private static final int COMPLETED = 1;
+        private static final int CANCELLED = 2;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                STATE = l.findVarHandle(FutureFinalizer.class, "state", Integer.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
         private final CountDownLatch latch = new CountDownLatch(1);
+        private final CancelCallbacks callbacks = new CancelCallbacks();
+        private volatile int state = PENDING;
         private R result;
         private ExecutionException exc;
 
@@ -35,12 +74,24 @@ public final class Finalizers {
 
         @Override
         public final boolean cancel(final boolean interrupt) {
-            return false;
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            this.latch.countDown();
+            this.callbacks.cancel();
+            return true;
         }
 
         @Override
         public final boolean isCancelled() {
-            return false;
+            return (this.state == CANCELLED);
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            if (!this.callbacks.add(callback) && this.isCancelled()) {
+                callback.run();
+            }
         }
 
         @Override
@@ -63,6 +114,9 @@ public final class Finalizers {
         }
 
         private R getResult() throws ExecutionException {
+            if (this.state == CANCELLED) {
+                throw new CancellationException();
+            }
             if (this.exc != null) {
                 throw this.exc;
             }
@@ -71,14 +125,20 @@ public final class Finalizers {
 
         @Override
         public final void setResult(final R result) {
-            this.result = result;
-            this.latch.countDown();
+            if (STATE.compareAndSet(this, PENDING, COMPLETED)) {
+                this.result = result;
+                this.latch.countDown();
+                this.callbacks.clear();
+            }
         }
 
         @Override
         public final void setError(final Throwable throwable) {
-            this.exc = Futures.toExecutionException(throwable);
-            this.latch.countDown();
+            if (STATE.compareAndSet(this, PENDING, COMPLETED)) {
+                this.exc = Futures.toExecutionException(throwable);
+                this.latch.countDown();
+                this.callbacks.clear();
+            }
         }
     }
 
@@ -126,5 +186,62 @@ public final class Finalizers {
         public final void setError(final Throwable throwable) {
             this.entry.stop(throwable);
         }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.entry.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.entry.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.entry.getDeadline();
+        }
+    }
+
+    private static final class DeadlineFinalizer<R>
+            implements Finalizer<R> {
+
+        private final Finalizer<R> finalizer;
+        private final long deadline;
+        private final PipelineStats stats;
+
+        private DeadlineFinalizer(final Finalizer<R> finalizer, final long deadline, final PipelineStats stats) {
+            this.finalizer = finalizer;
+            this.deadline = deadline;
+            this.stats = stats;
+        }
+
+        @Override
+        public final void setResult(final R result) {
+            this.finalizer.setResult(result);
+        }
+
+        @Override
+        public final void setError(final Throwable throwable) {
+            if ((this.stats != null) && (throwable instanceof DeadlineExceededException)) {
+                this.stats.deadlineExceeded();
+            }
+            this.finalizer.setError(throwable);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.finalizer.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.finalizer.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.deadline;
+        }
     }
 }
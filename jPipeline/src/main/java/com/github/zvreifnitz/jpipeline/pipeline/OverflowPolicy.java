@@ -0,0 +1,7 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+public enum OverflowPolicy {
+    BLOCK,
+    FAIL,
+    CALLER_RUNS
+}
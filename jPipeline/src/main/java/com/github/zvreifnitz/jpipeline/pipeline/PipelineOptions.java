@@ -0,0 +1,63 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import com.github.zvreifnitz.jpipeline.RunIdGenerator;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+
+public final class PipelineOptions {
+
+    private static final PipelineOptions DEFAULTS =
+            new PipelineOptions(ExecutionMode.STEP, false, false, RunIdGenerators.fast());
+
+    private final ExecutionMode executionMode;
+    private final boolean recycling;
+    private final boolean adaptiveParallelism;
+    private final RunIdGenerator runIdGenerator;
+
+    private PipelineOptions(
+            final ExecutionMode executionMode, final boolean recycling, final boolean adaptiveParallelism,
+            final RunIdGenerator runIdGenerator) {
+        this.executionMode = executionMode;
+        this.recycling = recycling;
+        this.adaptiveParallelism = adaptiveParallelism;
+        this.runIdGenerator = runIdGenerator;
+    }
+
+    public static PipelineOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public final PipelineOptions withExecutionMode(final ExecutionMode executionMode) {
+        checkNullPointer(executionMode, "executionMode");
+        return new PipelineOptions(executionMode, this.recycling, this.adaptiveParallelism, this.runIdGenerator);
+    }
+
+    public final PipelineOptions withRecycling(final boolean recycling) {
+        return new PipelineOptions(this.executionMode, recycling, this.adaptiveParallelism, this.runIdGenerator);
+    }
+
+    public final PipelineOptions withAdaptiveParallelism(final boolean adaptiveParallelism) {
+        return new PipelineOptions(this.executionMode, this.recycling, adaptiveParallelism, this.runIdGenerator);
+    }
+
+    public final PipelineOptions withRunIdGenerator(final RunIdGenerator runIdGenerator) {
+        checkNullPointer(runIdGenerator, "runIdGenerator");
+        return new PipelineOptions(this.executionMode, this.recycling, this.adaptiveParallelism, runIdGenerator);
+    }
+
+    public final ExecutionMode getExecutionMode() {
+        return this.executionMode;
+    }
+
+    public final boolean isRecycling() {
+        return this.recycling;
+    }
+
+    public final boolean isAdaptiveParallelism() {
+        return this.adaptiveParallelism;
+    }
+
+    public final RunIdGenerator getRunIdGenerator() {
+        return this.runIdGenerator;
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PipelineStats {
+
+    private final LongAdder deadlineExceeded = new LongAdder();
+    private final LongAdder skippedBranches = new LongAdder();
+    private final LongAdder discardedResults = new LongAdder();
+
+    PipelineStats() {
+    }
+
+    public final long getDeadlineExceeded() {
+        return this.deadlineExceeded.sum();
+    }
+
+    public final long getSkippedBranches() {
+        return this.skippedBranches.sum();
+    }
+
+    public final long getDiscardedResults() {
+        return this.discardedResults.sum();
+    }
+
+    public final void branchesSkipped(final long count) {
+        this.skippedBranches.add(count);
+    }
+
+    public final void resultDiscarded() {
+        this.discardedResults.increment();
+    }
+
+    final void deadlineExceeded() {
+        this.deadlineExceeded.increment();
+    }
+}
@@ -1,9 +1,15 @@
 package com.github.zvreifnitz.jpipeline.pipeline;
 
 import com.github.zvreifnitz.jpipeline.Pipeline;
+import com.github.zvreifnitz.jpipeline.RunIdGenerator;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 
+import java.util.function.ToLongFunction;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+
 public final class Pipelines {
     private Pipelines() {
     }
@@ -12,4 +18,57 @@ public final class Pipelines {
             final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory) {
         return new UnboundedPipeline<>(executor, runnableFactory);
     }
+
+    public static <T, R> Pipeline<T, R> unbounded(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final RunIdGenerator runIdGenerator) {
+        checkNullPointer(runIdGenerator, "runIdGenerator");
+        return new UnboundedPipeline<>(executor, runnableFactory, runIdGenerator);
+    }
+
+    public static <T, R> Pipeline<T, R> unbounded(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final PipelineOptions options) {
+        checkNullPointer(options, "options");
+        return new UnboundedPipeline<>(executor, runnableFactory, options);
+    }
+
+    public static <T, R> Pipeline<T, R> bounded(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final long maxRuns, final OverflowPolicy policy) {
+        checkArgument(maxRuns > 0L, "maxRuns", "Value must be positive.");
+        checkNullPointer(policy, "policy");
+        return new BoundedPipeline<>(executor, runnableFactory, maxRuns, policy);
+    }
+
+    public static <T, R> Pipeline<T, R> bounded(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy) {
+        checkArgument(maxRuns > 0L, "maxRuns", "Value must be positive.");
+        checkNullPointer(weigher, "weigher");
+        checkArgument(maxWeight > 0L, "maxWeight", "Value must be positive.");
+        checkNullPointer(policy, "policy");
+        return new BoundedPipeline<>(executor, runnableFactory, maxRuns, weigher, maxWeight, policy);
+    }
+
+    public static <T, R> Pipeline<T, R> bounded(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final long maxRuns, final OverflowPolicy policy, final PipelineOptions options) {
+        checkArgument(maxRuns > 0L, "maxRuns", "Value must be positive.");
+        checkNullPointer(policy, "policy");
+        checkNullPointer(options, "options");
+        return new BoundedPipeline<>(executor, runnableFactory, maxRuns, null, 0L, policy, options);
+    }
+
+    public static <T, R> Pipeline<T, R> bounded(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final long maxRuns, final ToLongFunction<T> weigher, final long maxWeight, final OverflowPolicy policy,
+            final PipelineOptions options) {
+        checkArgument(maxRuns > 0L, "maxRuns", "Value must be positive.");
+        checkNullPointer(weigher, "weigher");
+        checkArgument(maxWeight > 0L, "maxWeight", "Value must be positive.");
+        checkNullPointer(policy, "policy");
+        checkNullPointer(options, "options");
+        return new BoundedPipeline<>(executor, runnableFactory, maxRuns, weigher, maxWeight, policy, options);
+    }
 }
@@ -0,0 +1,96 @@
+package com.github.zvreifnitz.jpipeline.pipeline;
+
+import com.github.zvreifnitz.jpipeline.RunId;
+import com.github.zvreifnitz.jpipeline.RunIdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class RunIdGenerators {
+
+    private static final RunIdGenerator FAST = new CounterRunIdGenerator(nodePrefix());
+    private static final RunIdGenerator UUIDS = () -> RunId.of(UUID.randomUUID().toString());
+
+    private RunIdGenerators() {
+    }
+
+    public static RunIdGenerator fast() {
+        return FAST;
+    }
+
+    public static RunIdGenerator uuid() {
+        return UUIDS;
+    }
+
+    private static String nodePrefix() {
+        final long node = UUID.randomUUID().getMostSignificantBits() ^ ProcessHandle.current().pid();
+        return Long.toHexString(node & 0xFFFFFFFFFFFFL);
+    }
+
+    private static final class CounterRunIdGenerator implements RunIdGenerator {
+
+        private static final long BLOCK_SIZE = 1024L;
+
+        private final String node;
+        private final AtomicLong blocks = new AtomicLong();
+        private final ThreadLocal<Block> local = ThreadLocal.withInitial(Block::new);
+
+        private CounterRunIdGenerator(final String node) {
+            this.node = node;
+        }
+
+        @Override
+        public final RunId next() {
+            final Block block = this.local.get();
+            if (block.next == block.limit) {
+                block.next = this.blocks.getAndIncrement() * BLOCK_SIZE;
+                block.limit = block.next + BLOCK_SIZE;
+            }
+            return new CounterRunId(this.node, block.next++);
+        }
+    }
+
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+
+    private static final class CounterRunId implements RunId {
+
+        private final String node;
+        private final long value;
+        private String formatted;
+
+        private CounterRunId(final String node, final long value) {
+            this.node = node;
+            this.value = value;
+        }
+
+        @Override
+        public final boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CounterRunId)) {
+                return false;
+            }
+            final CounterRunId other = (CounterRunId) o;
+            return (this.value == other.value) && this.node.equals(other.node);
+        }
+
+        @Override
+        public final int hashCode() {
+            return Long.hashCode(this.value * 0x9E3779B97F4A7C15L);
+        }
+
+        @Override
+        public final String toString() {
+            String result = this.formatted;
+            if (result == null) {
+                result = this.node + '-' + Long.toHexString(this.value);
+                this.formatted = result;
+            }
+            return result;
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package com.github.zvreifnitz.jpipeline.pipeline;
 
+import com.github.zvreifnitz.jpipeline.RunId;
+import com.github.zvreifnitz.jpipeline.RunIdGenerator;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class UnboundedPipeline<T, R> extends AbstractPipeline<T, R> {
 
     private final PipelineExecutor executor;
     private final RunnableFactory<T, R> runnableFactory;
 
     public UnboundedPipeline(final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory) {
+        this(executor, runnableFactory, RunIdGenerators.fast());
+    }
+
+    public UnboundedPipeline(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final RunIdGenerator runIdGenerator) {
+        this(executor, runnableFactory, PipelineOptions.defaults().withRunIdGenerator(runIdGenerator));
+    }
+
+    public UnboundedPipeline(
+            final PipelineExecutor executor, final RunnableFactory<T, R> runnableFactory,
+            final PipelineOptions options) {
+        super(options);
         this.executor = executor;
-        this.runnableFactory = runnableFactory;
+        this.runnableFactory = runnableFactory.withStats(this.getStats());
     }
 
     @Override
@@ -19,8 +37,17 @@ public final class UnboundedPipeline<T, R> extends AbstractPipeline<T, R> {
     }
 
     @Override
-    protected final void doExecute(final String runId, final T input, final Finalizer<R> finalizer) {
+    protected final void doExecute(final RunId runId, final T input, final Finalizer<R> finalizer) {
         final Runnable runnable = this.runnableFactory.create(runId, input, finalizer);
         this.executor.execute(runnable);
     }
+
+    @Override
+    protected final void doExecuteAll(final List<? extends T> inputs, final BatchFinalizer<R> batch) {
+        final List<Runnable> runnables = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            runnables.add(this.runnableFactory.create(this.nextRunId(), inputs.get(i), batch.get(i)));
+        }
+        this.executor.execute(runnables);
+    }
 }
@@ -1,9 +1,25 @@
 package com.github.zvreifnitz.jpipeline.runnable;
 
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
 
 import java.util.List;
 
 public interface ParallelRunnablesFactory<I, R> {
     List<Runnable> create(final PipelineEntry<I, R> entry);
+
+    default ParallelRunnablesFactory<I, R> recycling() {
+        return this;
+    }
+
+    default ParallelRunnablesFactory<I, R> adaptive() {
+        return this;
+    }
+
+    default ParallelRunnablesFactory<I, R> withStats(final PipelineStats stats) {
+        return this;
+    }
+
+    default void release(final List<Runnable> runnables) {
+    }
 }
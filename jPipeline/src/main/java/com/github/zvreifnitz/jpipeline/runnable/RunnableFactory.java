@@ -1,7 +1,13 @@
 package com.github.zvreifnitz.jpipeline.runnable;
 
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
 
 public interface RunnableFactory<T, R> {
-    Runnable create(final String runId, final T input, final Finalizer<R> finalizer);
+    Runnable create(final RunId runId, final T input, final Finalizer<R> finalizer);
+
+    default RunnableFactory<T, R> withStats(final PipelineStats stats) {
+        return this;
+    }
 }
@@ -2,48 +2,35 @@ package com.github.zvreifnitz.jpipeline.runnable.impl;
 
 import com.github.zvreifnitz.jcore.exc.Exceptions;
 import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.entry.ProtectingEntry;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
+import com.github.zvreifnitz.jpipeline.pipeline.Deadlines;
 import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
 
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.VarHandle;
 import java.util.concurrent.TimeUnit;
 
 public abstract class AbstractRunnable<T, R, F> extends ProtectingEntry<T, R> implements PipelineStep<T, R>, Runnable {
 
-    private static final VarHandle STATE;
-
-    static {
-        try {
-            final MethodHandles.Lookup l = MethodHandles.lookup();
-            STATE = l.findVarHandle(AbstractRunnable.class, "state", Integer.TYPE);
-        } catch (final Exception exc) {
-            throw Exceptions.staticCtorFail(exc);
-        }
-    }
-
     private final Finalizer<F> finalizer;
-    private volatile int state;
     private Runnable next;
 
-    protected AbstractRunnable(final String runId, final T input, final Finalizer<F> finalizer) {
+    protected AbstractRunnable(final RunId runId, final T input, final Finalizer<F> finalizer) {
         super(runId, input);
         this.finalizer = finalizer;
     }
 
     @Override
     public final void run() {
-        try {
-            this.setState(0);
-            this.process(this);
-            if (this.compareAndSetState(0, 1)) {
-                return;
-            }
-            this.next.run();
-            this.next = null;
-        } catch (final Throwable exception) {
-            this.handleException(exception);
-        }
+        this.runNext(this.runStep());
+    }
+
+    final long runTimed() {
+        final long start = System.nanoTime();
+        final Runnable runnable = this.runStep();
+        final long elapsed = System.nanoTime() - start;
+        this.runNext(runnable);
+        return elapsed;
     }
 
     @Override
@@ -68,6 +55,10 @@ public abstract class AbstractRunnable<T, R, F> extends ProtectingEntry<T, R> im
     @Override
     protected final void processRetry(final long time, final TimeUnit timeUnit) {
         try {
+            if (this.finalizer.isCancelled()) {
+                this.publish();
+                return;
+            }
             final Runnable runnable = this.createSame();
             this.processRunnable(runnable, time, timeUnit, Long.MIN_VALUE);
         } catch (final Throwable exception) {
@@ -75,6 +66,21 @@ public abstract class AbstractRunnable<T, R, F> extends ProtectingEntry<T, R> im
         }
     }
 
+    @Override
+    public final boolean isCancelled() {
+        return this.finalizer.isCancelled();
+    }
+
+    @Override
+    public final void onCancel(final Runnable callback) {
+        this.finalizer.onCancel(callback);
+    }
+
+    @Override
+    public final long getDeadline() {
+        return this.finalizer.getDeadline();
+    }
+
     protected Finalizer<F> getFinalizer() {
         return this.finalizer;
     }
@@ -83,30 +89,68 @@ public abstract class AbstractRunnable<T, R, F> extends ProtectingEntry<T, R> im
 
     protected abstract Runnable createSame();
 
-    protected abstract void enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit);
+    protected abstract Cancellable enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit);
 
-    private void processRunnable(final Runnable runnable, final long time, final TimeUnit timeUnit, final long limit) {
-        this.next = (time < limit) ? runnable : new EnqueueTask(runnable, time, timeUnit);
-        if (this.compareAndSetState(0, 1)) {
+    private Runnable runStep() {
+        try {
+            if (this.finalizer.isCancelled()) {
+                return null;
+            }
+            if (Deadlines.isExpired(this.finalizer.getDeadline())) {
+                this.processException(Deadlines.exceeded());
+                return null;
+            }
+            this.enterInline();
+            this.process(this);
+            if (!this.handOff()) {
+                return null;
+            }
+            final Runnable runnable = this.next;
+            this.next = null;
+            return runnable;
+        } catch (final Throwable exception) {
+            this.exitInline();
+            this.handleException(exception);
+            return null;
+        }
+    }
+
+    private void runNext(final Runnable runnable) {
+        if (runnable == null) {
             return;
         }
-        this.next = null;
-        this.enqueue(runnable, time, timeUnit);
+        try {
+            runnable.run();
+        } catch (final Throwable exception) {
+            this.handleException(exception);
+        }
     }
 
-    private void handleException(final Throwable exception) {
-        this.processException(exception);
-        Exceptions.rethrowIfError(exception);
+    private void processRunnable(
+            final Runnable runnable, final long time, final TimeUnit timeUnit, final long limit) {
+        if (!this.isReturned()) {
+            this.next = (time < limit) ? runnable : new EnqueueTask(runnable, time, timeUnit);
+            if (!this.publish()) {
+                return;
+            }
+            this.next = null;
+        }
+        this.schedule(runnable, time, timeUnit);
     }
 
-    private void setState(final int value) {
-        if (this.state != value) {
-            this.state = value;
+    private void schedule(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+        if (time < 1L) {
+            this.enqueue(runnable, time, timeUnit);
+            return;
         }
+        final DelayedTask task = new DelayedTask(runnable, this.finalizer);
+        task.track(this.enqueue(task, time, timeUnit));
     }
 
-    private boolean compareAndSetState(final int expected, final int value) {
-        return ((this.state == expected) && STATE.compareAndSet(this, expected, value));
+    private void handleException(final Throwable exception) {
+        this.publish();
+        this.processException(exception);
+        Exceptions.rethrowIfError(exception);
     }
 
     private final class EnqueueTask implements Runnable {
@@ -124,7 +168,7 @@ public abstract class AbstractRunnable<T, R, F> extends ProtectingEntry<T, R> im
         @Override
         public final void run() {
             try {
-                AbstractRunnable.this.enqueue(this.runnable, this.time, this.timeUnit);
+                AbstractRunnable.this.schedule(this.runnable, this.time, this.timeUnit);
             } catch (final Throwable exception) {
                 AbstractRunnable.this.handleException(exception);
             }
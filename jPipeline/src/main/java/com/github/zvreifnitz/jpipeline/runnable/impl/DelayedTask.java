@@ -0,0 +1,90 @@
+package com.github.zvreifnitz.jpipeline.runnable.impl;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
+import com.github.zvreifnitz.jpipeline.execution.Rejectable;
+import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+final class DelayedTask implements Runnable, Rejectable {
+
+    private static final int PENDING = 0;
+    private static final int STARTED = 1;
+    private static final int REJECTED = 2;
+    private static final int CANCELLED = 3;
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            STATE = l.findVarHandle(DelayedTask.class, "state", Integer.TYPE);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final Runnable runnable;
+    private final Finalizer<?> finalizer;
+    private volatile Cancellable timer = Cancellable.NONE;
+    private volatile int state = PENDING;
+
+    DelayedTask(final Runnable runnable, final Finalizer<?> finalizer) {
+        this.runnable = runnable;
+        this.finalizer = finalizer;
+    }
+
+    final void track(final Cancellable timer) {
+        this.timer = timer;
+        if (this.state == PENDING) {
+            this.finalizer.onCancel(new Canceller(this));
+        }
+    }
+
+    @Override
+    public final void run() {
+        if (STATE.compareAndSet(this, PENDING, STARTED)) {
+            this.runnable.run();
+        }
+    }
+
+    @Override
+    public final void reject(final Throwable cause) {
+        if (STATE.compareAndSet(this, PENDING, REJECTED)) {
+            this.finalizer.setError(cause);
+        }
+    }
+
+    private boolean cancel() {
+        if (STATE.compareAndSet(this, PENDING, CANCELLED)) {
+            this.timer.cancel();
+            return true;
+        }
+        return false;
+    }
+
+    private static final class Canceller implements Runnable, Cancellable {
+
+        private final DelayedTask task;
+
+        private Canceller(final DelayedTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public final void run() {
+            this.task.cancel();
+        }
+
+        @Override
+        public final boolean cancel() {
+            return this.task.cancel();
+        }
+
+        @Override
+        public final boolean isDone() {
+            return (this.task.state != PENDING);
+        }
+    }
+}
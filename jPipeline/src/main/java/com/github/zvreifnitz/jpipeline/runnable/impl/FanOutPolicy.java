@@ -0,0 +1,126 @@
+package com.github.zvreifnitz.jpipeline.runnable.impl;
+
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.runnable.ParallelRunnablesFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class FanOutPolicy {
+
+    private static final int WARMUP_RUNS = 32;
+    private static final int SAMPLE_MASK = 63;
+    private static final long DISPATCH_NANOS = 1_000L;
+    private static final long UNKNOWN = -1L;
+
+    private final int parallelism;
+    private long runs;
+    private volatile long serviceNanos = UNKNOWN;
+    private volatile long queueNanos = UNKNOWN;
+
+    FanOutPolicy() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    private FanOutPolicy(final int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    final void execute(
+            final PipelineExecutor executor, final ParallelRunnablesFactory<?, ?> factory,
+            final List<Runnable> runnables) {
+        final int size = runnables.size();
+        final boolean sample = this.sample();
+        final int parts = this.parts(size, sample);
+        if ((parts >= size) && !sample) {
+            final Runnable runnable = runnables.remove(size - 1);
+            if (!runnables.isEmpty()) {
+                executor.execute(new ArrayList<>(runnables));
+            }
+            factory.release(runnables);
+            runnable.run();
+            return;
+        }
+        final Runnable[] all = runnables.toArray(new Runnable[0]);
+        factory.release(runnables);
+        final int grain = (size + parts - 1) / parts;
+        if (grain < size) {
+            final long submitted = sample ? System.nanoTime() : 0L;
+            final List<Runnable> batches = new ArrayList<>(parts - 1);
+            for (int from = grain; from < size; from += grain) {
+                batches.add(new Batch(this, all, from, Math.min(size, from + grain), submitted));
+            }
+            executor.execute(batches);
+        }
+        this.run(all, 0, Math.min(grain, size), sample);
+    }
+
+    private boolean sample() {
+        final long runs = this.runs++;
+        return (runs < WARMUP_RUNS) || ((runs & SAMPLE_MASK) == 0);
+    }
+
+    private int parts(final int size, final boolean sample) {
+        final long service = this.serviceNanos;
+        final long queue = this.queueNanos;
+        if ((service == UNKNOWN) || (queue == UNKNOWN)) {
+            return size;
+        }
+        final long grain = Math.max(1L, (queue + DISPATCH_NANOS) / Math.max(1L, service));
+        final int parts = (int) Math.min(Math.min(this.parallelism, size), (size + grain - 1L) / grain);
+        return (sample && (parts < 2) && (size > 1)) ? 2 : parts;
+    }
+
+    private void run(final Runnable[] runnables, final int from, final int to, final boolean sample) {
+        if (!sample) {
+            for (int i = from; i < to; i++) {
+                runnables[i].run();
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            this.serviceNanos = average(this.serviceNanos, service(runnables[i]));
+        }
+    }
+
+    private static long service(final Runnable runnable) {
+        if (runnable instanceof AbstractRunnable) {
+            return ((AbstractRunnable<?, ?, ?>) runnable).runTimed();
+        }
+        final long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long average(final long current, final long sample) {
+        return (current == UNKNOWN) ? sample : current + ((sample - current) >> 3);
+    }
+
+    private static final class Batch implements Runnable {
+
+        private final FanOutPolicy policy;
+        private final Runnable[] runnables;
+        private final int from;
+        private final int to;
+        private final long submitted;
+
+        private Batch(
+                final FanOutPolicy policy, final Runnable[] runnables,
+                final int from, final int to, final long submitted) {
+            this.policy = policy;
+            this.runnables = runnables;
+            this.from = from;
+            this.to = to;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public final void run() {
+            final boolean sample = (this.submitted != 0L);
+            if (sample) {
+                this.policy.queueNanos = average(this.policy.queueNanos, System.nanoTime() - this.submitted);
+            }
+            this.policy.run(this.runnables, this.from, this.to, sample);
+        }
+    }
+}
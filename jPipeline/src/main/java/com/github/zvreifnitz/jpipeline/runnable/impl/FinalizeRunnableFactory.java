@@ -1,6 +1,7 @@
 package com.github.zvreifnitz.jpipeline.runnable.impl;
 
 import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 
@@ -10,7 +11,7 @@ final class FinalizeRunnableFactory<R> implements RunnableFactory<R, R> {
     }
 
     @Override
-    public final Runnable create(final String runId, final R result, final Finalizer<R> finalizer) {
+    public final Runnable create(final RunId runId, final R result, final Finalizer<R> finalizer) {
         return new FinalizeRunnable<>(result, finalizer);
     }
 
@@ -0,0 +1,360 @@
+package com.github.zvreifnitz.jpipeline.runnable.impl;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.RunId;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.pipeline.Deadlines;
+import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
+import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+
+final class FrameRunnableFactory<T, F> implements RunnableFactory<T, F> {
+
+    private static final int CLAIMED = 1;
+    private static final int PUBLISHED = 2;
+    private static final int RETURNED = 4;
+    private static final int GENERATION_SHIFT = 3;
+    private static final int GENERATION_MASK = -1 << GENERATION_SHIFT;
+
+    private static final int NEXT = 0;
+    private static final int RETRY = 1;
+    private static final int ERROR = 2;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            STATE = l.findVarHandle(Frame.class, "state", Integer.TYPE);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final PipelineExecutor executor;
+    private final PipelineStep<Object, Object>[] steps;
+    private final RunnableFactory<Object, F> next;
+    private final boolean terminal;
+
+    FrameRunnableFactory(
+            final PipelineExecutor executor, final PipelineStep<Object, Object>[] steps,
+            final RunnableFactory<Object, F> next) {
+        this.executor = executor;
+        this.steps = steps;
+        this.next = next;
+        this.terminal = (next instanceof FinalizeRunnableFactory);
+    }
+
+    @Override
+    public final Runnable create(final RunId runId, final T input, final Finalizer<F> finalizer) {
+        return new Frame<>(this, runId, input, finalizer);
+    }
+
+    final RunnableFactory<T, F> toRecycling() {
+        return new FrameRunnableFactory<>(this.executor, this.steps, RunnableFactories.recycling(this.next));
+    }
+
+    final RunnableFactory<T, F> toAdaptive() {
+        return new FrameRunnableFactory<>(this.executor, this.steps, RunnableFactories.adaptive(this.next));
+    }
+
+    @Override
+    public final RunnableFactory<T, F> withStats(final PipelineStats stats) {
+        return new FrameRunnableFactory<>(this.executor, this.steps, this.next.withStats(stats));
+    }
+
+    private static final class Frame<F> implements Runnable {
+
+        private final FrameRunnableFactory<?, F> factory;
+        private final RunId runId;
+        private final Finalizer<F> finalizer;
+        private volatile int state;
+        private int generation;
+        private int index;
+        private Object value;
+        private int action;
+        private Object result;
+        private Throwable error;
+        private long time;
+        private TimeUnit timeUnit;
+
+        private Frame(
+                final FrameRunnableFactory<?, F> factory, final RunId runId, final Object input,
+                final Finalizer<F> finalizer) {
+            this.factory = factory;
+            this.runId = runId;
+            this.value = input;
+            this.finalizer = finalizer;
+        }
+
+        @Override
+        public final void run() {
+            try {
+                final PipelineStep<Object, Object>[] steps = this.factory.steps;
+                while (this.index < steps.length) {
+                    if (this.finalizer.isCancelled()) {
+                        return;
+                    }
+                    if (Deadlines.isExpired(this.finalizer.getDeadline())) {
+                        this.processException(Deadlines.exceeded());
+                        return;
+                    }
+                    final int generation = ++this.generation << GENERATION_SHIFT;
+                    STATE.setRelease(this, generation);
+                    steps[this.index].process(new Slot(this, generation));
+                    if (!this.isPublished()) {
+                        return;
+                    }
+                    if (!this.advance()) {
+                        return;
+                    }
+                }
+                this.finish();
+            } catch (final Throwable exception) {
+                this.handleException(exception);
+            }
+        }
+
+        private boolean complete(
+                final int generation, final int action, final Object result, final Throwable error,
+                final long time, final TimeUnit timeUnit) {
+            int s;
+            do {
+                s = this.state;
+                if ((s & (CLAIMED | GENERATION_MASK)) != generation) {
+                    return false;
+                }
+            } while (!STATE.compareAndSet(this, s, s | CLAIMED));
+            this.action = action;
+            this.result = result;
+            this.error = error;
+            this.time = time;
+            this.timeUnit = timeUnit;
+            if ((((int) STATE.getAndBitwiseOr(this, PUBLISHED)) & RETURNED) != 0) {
+                this.resume();
+            }
+            return true;
+        }
+
+        private boolean isPublished() {
+            return ((this.state & PUBLISHED) != 0)
+                    || ((((int) STATE.getAndBitwiseOr(this, RETURNED)) & PUBLISHED) != 0);
+        }
+
+        private boolean advance() {
+            switch (this.action) {
+                case NEXT:
+                    this.moveNext();
+                    if (this.time < 1L) {
+                        return true;
+                    }
+                    this.schedule(this.time, this.timeUnit);
+                    return false;
+                case RETRY:
+                    if (!this.finalizer.isCancelled()) {
+                        this.schedule(this.time, this.timeUnit);
+                    }
+                    return false;
+                default:
+                    this.processException(this.takeError());
+                    return false;
+            }
+        }
+
+        private void resume() {
+            try {
+                switch (this.action) {
+                    case NEXT:
+                        this.moveNext();
+                        this.schedule(this.time, this.timeUnit);
+                        return;
+                    case RETRY:
+                        if (!this.finalizer.isCancelled()) {
+                            this.schedule(this.time, this.timeUnit);
+                        }
+                        return;
+                    default:
+                        this.processException(this.takeError());
+                }
+            } catch (final Throwable exception) {
+                this.handleException(exception);
+            }
+        }
+
+        private void moveNext() {
+            this.value = this.result;
+            this.result = null;
+            this.index++;
+        }
+
+        private Throwable takeError() {
+            final Throwable throwable = this.error;
+            this.error = null;
+            return throwable;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void finish() {
+            final Object output = this.value;
+            this.value = null;
+            if (this.factory.terminal) {
+                try {
+                    this.finalizer.setResult((F) output);
+                } catch (final Throwable exception) {
+                    this.handleException(exception);
+                }
+                return;
+            }
+            this.factory.next.create(this.runId, output, this.finalizer).run();
+        }
+
+        private void schedule(final long time, final TimeUnit timeUnit) {
+            if (time < 1L) {
+                this.factory.executor.execute(this);
+                return;
+            }
+            final DelayedTask task = new DelayedTask(this, this.finalizer);
+            task.track(this.factory.executor.scheduleCancellable(task, time, timeUnit));
+        }
+
+        private void processException(final Throwable throwable) {
+            try {
+                this.finalizer.setError(throwable);
+            } catch (final Throwable exception) {
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        private void handleException(final Throwable exception) {
+            this.processException(exception);
+            Exceptions.rethrowIfError(exception);
+        }
+
+    }
+
+    private static final class Slot implements PipelineEntry<Object, Object> {
+
+        private final Frame<?> frame;
+        private final int generation;
+        private final Object value;
+
+        private Slot(final Frame<?> frame, final int generation) {
+            this.frame = frame;
+            this.generation = generation;
+            this.value = frame.value;
+        }
+
+        @Override
+        public final String getRunId() {
+            return this.frame.runId.toString();
+        }
+
+        @Override
+        public final RunId getRunKey() {
+            return this.frame.runId;
+        }
+
+        @Override
+        public final Object get() {
+            return this.value;
+        }
+
+        @Override
+        public final void accept(final Object result) {
+            if (this.tryAccept(result)) {
+                return;
+            }
+            this.throwAlreadyDone();
+        }
+
+        @Override
+        public final void accept(final Object result, final long time, final TimeUnit timeUnit) {
+            if (this.tryAccept(result, time, timeUnit)) {
+                return;
+            }
+            this.throwAlreadyDone();
+        }
+
+        @Override
+        public final void stop(final Throwable throwable) {
+            if (this.tryStop(throwable)) {
+                return;
+            }
+            this.throwAlreadyDone();
+        }
+
+        @Override
+        public final void retry() {
+            if (this.tryRetry()) {
+                return;
+            }
+            this.throwAlreadyDone();
+        }
+
+        @Override
+        public final void retry(final long time, final TimeUnit timeUnit) {
+            if (this.tryRetry(time, timeUnit)) {
+                return;
+            }
+            this.throwAlreadyDone();
+        }
+
+        @Override
+        public final boolean tryAccept(final Object result) {
+            return this.tryAccept(result, 0L, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public final boolean tryAccept(final Object result, final long time, final TimeUnit timeUnit) {
+            checkArgument(time >= 0L, "time", "Value must be positive.");
+            checkNullPointer(timeUnit, "timeUnit");
+            return this.frame.complete(this.generation, NEXT, result, null, time, timeUnit);
+        }
+
+        @Override
+        public final boolean tryStop(final Throwable throwable) {
+            checkNullPointer(throwable, "throwable");
+            return this.frame.complete(this.generation, ERROR, null, throwable, 0L, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public final boolean tryRetry() {
+            return this.tryRetry(0L, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
+            checkArgument(time >= 0L, "time", "Value must be positive.");
+            checkNullPointer(timeUnit, "timeUnit");
+            return this.frame.complete(this.generation, RETRY, null, null, time, timeUnit);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return this.frame.finalizer.isCancelled();
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+            this.frame.finalizer.onCancel(callback);
+        }
+
+        @Override
+        public final long getDeadline() {
+            return this.frame.finalizer.getDeadline();
+        }
+
+        private void throwAlreadyDone() {
+            Exceptions.throwIllegalState("PipelineEntry already finalized");
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.github.zvreifnitz.jpipeline.runnable.impl;
 
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.RunId;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
 import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
 import com.github.zvreifnitz.jpipeline.runnable.ParallelRunnablesFactory;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -14,47 +18,85 @@ final class ParStepRunnableFactory<T, R, F> implements RunnableFactory<T, F> {
     private final PipelineExecutor executor;
     private final ParallelRunnablesFactory<T, R> taskFactory;
     private final RunnableFactory<R, F> factory;
+    private final FanOutPolicy policy;
 
     ParStepRunnableFactory(
             final PipelineExecutor executor, final ParallelRunnablesFactory<T, R> taskFactory,
             final RunnableFactory<R, F> factory) {
+        this(executor, taskFactory, factory, null);
+    }
+
+    private ParStepRunnableFactory(
+            final PipelineExecutor executor, final ParallelRunnablesFactory<T, R> taskFactory,
+            final RunnableFactory<R, F> factory, final FanOutPolicy policy) {
         this.executor = executor;
         this.taskFactory = taskFactory;
         this.factory = factory;
+        this.policy = policy;
     }
 
     @Override
-    public final Runnable create(final String runId, final T input, final Finalizer<F> finalizer) {
+    public final Runnable create(final RunId runId, final T input, final Finalizer<F> finalizer) {
         return new ParStepRunnable(runId, input, finalizer);
     }
 
+    final RunnableFactory<T, F> toFrames() {
+        return new ParStepRunnableFactory<>(
+                this.executor, this.taskFactory, RunnableFactories.frames(this.factory), this.policy);
+    }
+
+    final RunnableFactory<T, F> toRecycling() {
+        return new ParStepRunnableFactory<>(
+                this.executor, this.taskFactory.recycling(), RunnableFactories.recycling(this.factory), this.policy);
+    }
+
+    final RunnableFactory<T, F> toAdaptive() {
+        return new ParStepRunnableFactory<>(
+                this.executor, this.taskFactory.adaptive(), RunnableFactories.adaptive(this.factory), new FanOutPolicy());
+    }
+
+    @Override
+    public final RunnableFactory<T, F> withStats(final PipelineStats stats) {
+        return new ParStepRunnableFactory<>(
+                this.executor, this.taskFactory.withStats(stats), this.factory.withStats(stats), this.policy);
+    }
+
     private final class ParStepRunnable extends AbstractRunnable<T, R, F> implements Runnable {
 
-        private ParStepRunnable(final String runId, final T input, final Finalizer<F> finalizer) {
+        private ParStepRunnable(final RunId runId, final T input, final Finalizer<F> finalizer) {
             super(runId, input, finalizer);
         }
 
         @Override
         public final void process(final PipelineEntry<T, R> entry) {
-            final List<Runnable> runnables = ParStepRunnableFactory.this.taskFactory.create(entry);
+            final ParallelRunnablesFactory<T, R> taskFactory = ParStepRunnableFactory.this.taskFactory;
+            final List<Runnable> runnables = taskFactory.create(entry);
+            final FanOutPolicy policy = ParStepRunnableFactory.this.policy;
+            if (policy != null) {
+                policy.execute(ParStepRunnableFactory.this.executor, taskFactory, runnables);
+                return;
+            }
             final Runnable runnable = runnables.remove(runnables.size() - 1);
-            ParStepRunnableFactory.this.executor.execute(runnables);
+            if (!runnables.isEmpty()) {
+                ParStepRunnableFactory.this.executor.execute(new ArrayList<>(runnables));
+            }
+            taskFactory.release(runnables);
             runnable.run();
         }
 
         @Override
         protected final Runnable createNext(final R result) {
-            return ParStepRunnableFactory.this.factory.create(this.getRunId(), result, this.getFinalizer());
+            return ParStepRunnableFactory.this.factory.create(this.getRunKey(), result, this.getFinalizer());
         }
 
         @Override
         protected final Runnable createSame() {
-            return new ParStepRunnable(this.getRunId(), this.get(), this.getFinalizer());
+            return new ParStepRunnable(this.getRunKey(), this.get(), this.getFinalizer());
         }
 
         @Override
-        protected final void enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit) {
-            PipelineExecutor.executeOrSchedule(
+        protected final Cancellable enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            return PipelineExecutor.executeOrScheduleCancellable(
                     ParStepRunnableFactory.this.executor, runnable, time, timeUnit);
         }
     }
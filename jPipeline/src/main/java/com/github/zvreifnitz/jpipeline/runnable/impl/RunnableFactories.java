@@ -32,4 +32,52 @@ public final class RunnableFactories {
             final ToIntFunction<T> switcher, final List<RunnableFactory<T, R>> factories) {
         return new SwitchRunnableFactory<>(switcher, factories);
     }
+
+    @SuppressWarnings("unchecked")
+    public static <T, R> RunnableFactory<T, R> frames(final RunnableFactory<T, R> factory) {
+        if (factory instanceof SeqStepRunnableFactory) {
+            return ((SeqStepRunnableFactory<T, ?, R>) factory).toFrames();
+        }
+        if (factory instanceof ParStepRunnableFactory) {
+            return ((ParStepRunnableFactory<T, ?, R>) factory).toFrames();
+        }
+        if (factory instanceof SwitchRunnableFactory) {
+            return ((SwitchRunnableFactory<T, R>) factory).toFrames();
+        }
+        return factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, R> RunnableFactory<T, R> recycling(final RunnableFactory<T, R> factory) {
+        if (factory instanceof SeqStepRunnableFactory) {
+            return ((SeqStepRunnableFactory<T, ?, R>) factory).toRecycling();
+        }
+        if (factory instanceof ParStepRunnableFactory) {
+            return ((ParStepRunnableFactory<T, ?, R>) factory).toRecycling();
+        }
+        if (factory instanceof SwitchRunnableFactory) {
+            return ((SwitchRunnableFactory<T, R>) factory).toRecycling();
+        }
+        if (factory instanceof FrameRunnableFactory) {
+            return ((FrameRunnableFactory<T, R>) factory).toRecycling();
+        }
+        return factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, R> RunnableFactory<T, R> adaptive(final RunnableFactory<T, R> factory) {
+        if (factory instanceof SeqStepRunnableFactory) {
+            return ((SeqStepRunnableFactory<T, ?, R>) factory).toAdaptive();
+        }
+        if (factory instanceof ParStepRunnableFactory) {
+            return ((ParStepRunnableFactory<T, ?, R>) factory).toAdaptive();
+        }
+        if (factory instanceof SwitchRunnableFactory) {
+            return ((SwitchRunnableFactory<T, R>) factory).toAdaptive();
+        }
+        if (factory instanceof FrameRunnableFactory) {
+            return ((FrameRunnableFactory<T, R>) factory).toAdaptive();
+        }
+        return factory;
+    }
 }
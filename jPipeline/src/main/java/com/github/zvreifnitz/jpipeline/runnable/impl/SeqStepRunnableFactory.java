@@ -1,11 +1,16 @@
 package com.github.zvreifnitz.jpipeline.runnable.impl;
 
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
 import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 final class SeqStepRunnableFactory<T, R, F> implements RunnableFactory<T, F> {
@@ -22,13 +27,40 @@ final class SeqStepRunnableFactory<T, R, F> implements RunnableFactory<T, F> {
     }
 
     @Override
-    public final Runnable create(final String runId, final T input, final Finalizer<F> finalizer) {
+    public final Runnable create(final RunId runId, final T input, final Finalizer<F> finalizer) {
         return new SeqStepRunnable(runId, input, finalizer);
     }
 
+    @SuppressWarnings("unchecked")
+    final RunnableFactory<T, F> toFrames() {
+        final List<PipelineStep<?, ?>> steps = new ArrayList<>();
+        RunnableFactory<?, F> factory = this;
+        while ((factory instanceof SeqStepRunnableFactory)
+                && (((SeqStepRunnableFactory<?, ?, F>) factory).executor == this.executor)) {
+            final SeqStepRunnableFactory<?, ?, F> seq = (SeqStepRunnableFactory<?, ?, F>) factory;
+            steps.add(seq.step);
+            factory = seq.factory;
+        }
+        return new FrameRunnableFactory<>(this.executor,
+                (PipelineStep<Object, Object>[]) steps.toArray(new PipelineStep<?, ?>[0]), RunnableFactories.frames((RunnableFactory<Object, F>) factory));
+    }
+
+    final RunnableFactory<T, F> toRecycling() {
+        return new SeqStepRunnableFactory<>(this.executor, this.step, RunnableFactories.recycling(this.factory));
+    }
+
+    final RunnableFactory<T, F> toAdaptive() {
+        return new SeqStepRunnableFactory<>(this.executor, this.step, RunnableFactories.adaptive(this.factory));
+    }
+
+    @Override
+    public final RunnableFactory<T, F> withStats(final PipelineStats stats) {
+        return new SeqStepRunnableFactory<>(this.executor, this.step, this.factory.withStats(stats));
+    }
+
     private final class SeqStepRunnable extends AbstractRunnable<T, R, F> implements Runnable {
 
-        private SeqStepRunnable(final String runId, final T input, final Finalizer<F> finalizer) {
+        private SeqStepRunnable(final RunId runId, final T input, final Finalizer<F> finalizer) {
             super(runId, input, finalizer);
         }
 
@@ -39,17 +71,17 @@ final class SeqStepRunnableFactory<T, R, F> implements RunnableFactory<T, F> {
 
         @Override
         protected final Runnable createNext(final R result) {
-            return SeqStepRunnableFactory.this.factory.create(this.getRunId(), result, this.getFinalizer());
+            return SeqStepRunnableFactory.this.factory.create(this.getRunKey(), result, this.getFinalizer());
         }
 
         @Override
         protected final Runnable createSame() {
-            return new SeqStepRunnable(this.getRunId(), this.get(), this.getFinalizer());
+            return new SeqStepRunnable(this.getRunKey(), this.get(), this.getFinalizer());
         }
 
         @Override
-        protected final void enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit) {
-            PipelineExecutor.executeOrSchedule(
+        protected final Cancellable enqueue(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+            return PipelineExecutor.executeOrScheduleCancellable(
                     SeqStepRunnableFactory.this.executor, runnable, time, timeUnit);
         }
     }
@@ -1,8 +1,11 @@
 package com.github.zvreifnitz.jpipeline.runnable.impl;
 
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineStats;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.ToIntFunction;
 
@@ -17,7 +20,40 @@ final class SwitchRunnableFactory<T, R> implements RunnableFactory<T, R> {
     }
 
     @Override
-    public final Runnable create(final String runId, final T result, final Finalizer<R> finalizer) {
+    public final Runnable create(final RunId runId, final T result, final Finalizer<R> finalizer) {
         return this.factories.get(this.switcher.applyAsInt(result)).create(runId, result, finalizer);
     }
+
+    @Override
+    public final RunnableFactory<T, R> withStats(final PipelineStats stats) {
+        final List<RunnableFactory<T, R>> factories = new ArrayList<>(this.factories.size());
+        for (final RunnableFactory<T, R> factory : this.factories) {
+            factories.add(factory.withStats(stats));
+        }
+        return new SwitchRunnableFactory<>(this.switcher, factories);
+    }
+
+    final RunnableFactory<T, R> toFrames() {
+        final List<RunnableFactory<T, R>> frames = new ArrayList<>(this.factories.size());
+        for (final RunnableFactory<T, R> factory : this.factories) {
+            frames.add(RunnableFactories.frames(factory));
+        }
+        return new SwitchRunnableFactory<>(this.switcher, frames);
+    }
+
+    final RunnableFactory<T, R> toRecycling() {
+        final List<RunnableFactory<T, R>> recycling = new ArrayList<>(this.factories.size());
+        for (final RunnableFactory<T, R> factory : this.factories) {
+            recycling.add(RunnableFactories.recycling(factory));
+        }
+        return new SwitchRunnableFactory<>(this.switcher, recycling);
+    }
+
+    final RunnableFactory<T, R> toAdaptive() {
+        final List<RunnableFactory<T, R>> adaptive = new ArrayList<>(this.factories.size());
+        for (final RunnableFactory<T, R> factory : this.factories) {
+            adaptive.add(RunnableFactories.adaptive(factory));
+        }
+        return new SwitchRunnableFactory<>(this.switcher, adaptive);
+    }
 }
@@ -0,0 +1,70 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+
+public final class CachePolicy {
+
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 10_000L;
+    private static final long NEVER = 0L;
+
+    private final PipelineExecutor executor;
+    private final long maximumWeight;
+    private final long expireAfterWriteNanos;
+    private final long refreshAfterWriteNanos;
+
+    private CachePolicy(
+            final PipelineExecutor executor, final long maximumWeight,
+            final long expireAfterWriteNanos, final long refreshAfterWriteNanos) {
+        this.executor = executor;
+        this.maximumWeight = maximumWeight;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.refreshAfterWriteNanos = refreshAfterWriteNanos;
+    }
+
+    public static CachePolicy defaults() {
+        return new CachePolicy(PipelineExecutor.defaultExecutor(), DEFAULT_MAXIMUM_WEIGHT, NEVER, NEVER);
+    }
+
+    public final CachePolicy withExecutor(final PipelineExecutor executor) {
+        checkNullPointer(executor, "executor");
+        return new CachePolicy(executor, this.maximumWeight, this.expireAfterWriteNanos, this.refreshAfterWriteNanos);
+    }
+
+    public final CachePolicy withMaximumWeight(final long maximumWeight) {
+        checkArgument(maximumWeight > 0L, "maximumWeight", "Value must be positive.");
+        return new CachePolicy(this.executor, maximumWeight, this.expireAfterWriteNanos, this.refreshAfterWriteNanos);
+    }
+
+    public final CachePolicy withExpireAfterWrite(final long time, final TimeUnit timeUnit) {
+        checkArgument(time > 0L, "time", "Value must be positive.");
+        checkNullPointer(timeUnit, "timeUnit");
+        return new CachePolicy(this.executor, this.maximumWeight, timeUnit.toNanos(time), this.refreshAfterWriteNanos);
+    }
+
+    public final CachePolicy withRefreshAfterWrite(final long time, final TimeUnit timeUnit) {
+        checkArgument(time > 0L, "time", "Value must be positive.");
+        checkNullPointer(timeUnit, "timeUnit");
+        return new CachePolicy(this.executor, this.maximumWeight, this.expireAfterWriteNanos, timeUnit.toNanos(time));
+    }
+
+    public final PipelineExecutor getExecutor() {
+        return this.executor;
+    }
+
+    public final long getMaximumWeight() {
+        return this.maximumWeight;
+    }
+
+    public final long getExpireAfterWriteNanos() {
+        return this.expireAfterWriteNanos;
+    }
+
+    public final long getRefreshAfterWriteNanos() {
+        return this.refreshAfterWriteNanos;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    CacheStats() {
+    }
+
+    public final long getHits() {
+        return this.hits.sum();
+    }
+
+    public final long getMisses() {
+        return this.misses.sum();
+    }
+
+    public final long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    public final long getExpirations() {
+        return this.expirations.sum();
+    }
+
+    public final long getRefreshes() {
+        return this.refreshes.sum();
+    }
+
+    final void hit() {
+        this.hits.increment();
+    }
+
+    final void miss() {
+        this.misses.increment();
+    }
+
+    final void evicted() {
+        this.evictions.increment();
+    }
+
+    final void expired() {
+        this.expirations.increment();
+    }
+
+    final void refreshed() {
+        this.refreshes.increment();
+    }
+}
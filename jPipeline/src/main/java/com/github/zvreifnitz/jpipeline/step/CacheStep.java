@@ -0,0 +1,533 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.RunId;
+import com.github.zvreifnitz.jpipeline.entry.AbstractEntry;
+import com.github.zvreifnitz.jpipeline.entry.EntryWrapper;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.utils.Funcs;
+import jdk.internal.vm.annotation.Contended;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+final class CacheStep<T, R> implements CachedStep<T, R> {
+
+    private static final int READ_BUFFER_SIZE = 32;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int MAX_READ_BUFFERS = 16;
+    private static final Object NULL_KEY = new Object();
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Function<T, ?> keyFn;
+    private final PipelineStep<T, R> step;
+    private final ToLongFunction<R> weigher;
+    private final PipelineExecutor executor;
+    private final long expireNanos;
+    private final long refreshNanos;
+    private final boolean timed;
+    private final CacheStats stats;
+    private final ConcurrentHashMap<Object, Node<R>> nodes;
+    private final ReadBuffer[] readBuffers;
+    private final int readBuffersMask;
+    private final ReentrantLock lock;
+    private final FrequencySketch sketch;
+    private final AccessQueue<R> window;
+    private final AccessQueue<R> probation;
+    private final AccessQueue<R> protect;
+    private final long maximumWeight;
+    private final long windowWeight;
+    private final long protectedWeight;
+    private long weight;
+
+    CacheStep(
+            final Function<T, ?> keyFn, final PipelineStep<T, R> step,
+            final ToLongFunction<R> weigher, final CachePolicy policy) {
+        this.keyFn = keyFn;
+        this.step = step;
+        this.weigher = weigher;
+        this.executor = policy.getExecutor();
+        this.expireNanos = policy.getExpireAfterWriteNanos();
+        this.refreshNanos = policy.getRefreshAfterWriteNanos();
+        this.timed = (this.expireNanos > 0L) || (this.refreshNanos > 0L);
+        this.stats = new CacheStats();
+        this.nodes = new ConcurrentHashMap<>();
+        this.readBuffers = newReadBuffers();
+        this.readBuffersMask = this.readBuffers.length - 1;
+        this.lock = new ReentrantLock();
+        this.sketch = new FrequencySketch(policy.getMaximumWeight());
+        this.window = new AccessQueue<>();
+        this.probation = new AccessQueue<>();
+        this.protect = new AccessQueue<>();
+        this.maximumWeight = policy.getMaximumWeight();
+        this.windowWeight = Math.max(1L, this.maximumWeight / 100L);
+        this.protectedWeight = ((this.maximumWeight - this.windowWeight) * 4L) / 5L;
+    }
+
+    private static ReadBuffer[] newReadBuffers() {
+        final int cpus = Runtime.getRuntime().availableProcessors();
+        int count = 1;
+        while ((count < cpus) && (count < MAX_READ_BUFFERS)) {
+            count <<= 1;
+        }
+        final ReadBuffer[] result = new ReadBuffer[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new ReadBuffer();
+        }
+        return result;
+    }
+
+    private static int probe() {
+        final long id = Thread.currentThread().getId();
+        final int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public final CacheStats getStats() {
+        return this.stats;
+    }
+
+    @Override
+    public final void process(final PipelineEntry<T, R> entry) {
+        try {
+            final T input = entry.get();
+            final Object key = this.keyOf(input);
+            final Node<R> node = this.nodes.get(key);
+            if ((node != null) && !this.isExpired(node)) {
+                final R value = node.value;
+                this.stats.hit();
+                this.afterRead(node);
+                if (this.needsRefresh(node)) {
+                    this.refresh(key, node, entry);
+                }
+                entry.tryAccept(value);
+                return;
+            }
+            this.stats.miss();
+            this.step.process(new Load(key, entry));
+        } catch (final Throwable exception) {
+            entry.tryStop(exception);
+            Exceptions.rethrowIfError(exception);
+        }
+    }
+
+    private Object keyOf(final T input) {
+        final Object key = this.keyFn.apply(input);
+        return (key == null) ? NULL_KEY : key;
+    }
+
+    private boolean isExpired(final Node<R> node) {
+        if ((this.expireNanos > 0L) && ((System.nanoTime() - node.writeTime) >= this.expireNanos)) {
+            this.expire(node);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean needsRefresh(final Node<R> node) {
+        if ((this.refreshNanos > 0L) && ((System.nanoTime() - node.writeTime) >= this.refreshNanos)
+                && node.startRefresh()) {
+            this.stats.refreshed();
+            return true;
+        }
+        return false;
+    }
+
+    private void afterRead(final Node<R> node) {
+        final ReadBuffer buffer = this.readBuffers[probe() & this.readBuffersMask];
+        final long index = buffer.next();
+        SLOTS.setRelease(buffer.slots, (int) (index & READ_BUFFER_MASK), node);
+        if (((index & READ_BUFFER_MASK) == READ_BUFFER_MASK) && this.lock.tryLock()) {
+            try {
+                this.drainReads();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainReads() {
+        for (final ReadBuffer buffer : this.readBuffers) {
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                final Node<R> node = (Node<R>) SLOTS.getAndSet(buffer.slots, i, null);
+                if ((node != null) && (node.queue != null)) {
+                    this.sketch.increment(node.key);
+                    this.onAccess(node);
+                }
+            }
+        }
+    }
+
+    private void put(final Object key, final R value) {
+        final long weight = Math.max(0L, this.weigher.applyAsLong(value));
+        final long now = this.timed ? System.nanoTime() : 0L;
+        this.lock.lock();
+        try {
+            this.drainReads();
+            this.sketch.increment(key);
+            final Node<R> current = this.nodes.get(key);
+            if (current != null) {
+                current.value = value;
+                current.writeTime = now;
+                current.queue.weight += (weight - current.weight);
+                this.weight += (weight - current.weight);
+                current.weight = weight;
+                this.onAccess(current);
+            } else {
+                final Node<R> node = new Node<>(key, value, weight, now);
+                this.nodes.put(key, node);
+                this.window.addLast(node);
+                this.weight += weight;
+            }
+            this.evict();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void expire(final Node<R> node) {
+        this.lock.lock();
+        try {
+            if ((node.queue != null) && this.nodes.remove(node.key, node)) {
+                this.remove(node);
+                this.stats.expired();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void onAccess(final Node<R> node) {
+        final AccessQueue<R> queue = node.queue;
+        if (queue == this.probation) {
+            this.probation.remove(node);
+            this.protect.addLast(node);
+            while (this.protect.weight > this.protectedWeight) {
+                final Node<R> demoted = this.protect.first;
+                this.protect.remove(demoted);
+                this.probation.addLast(demoted);
+            }
+        } else if (queue != null) {
+            queue.moveToLast(node);
+        }
+    }
+
+    private void evict() {
+        while ((this.window.weight > this.windowWeight) && (this.window.first != null)) {
+            final Node<R> node = this.window.first;
+            this.window.remove(node);
+            this.probation.addLast(node);
+        }
+        while (this.weight > this.maximumWeight) {
+            final Node<R> victim = this.probation.first;
+            if (victim == null) {
+                final Node<R> fallback = (this.protect.first != null) ? this.protect.first : this.window.first;
+                if (fallback == null) {
+                    return;
+                }
+                this.evict(fallback);
+                continue;
+            }
+            final Node<R> candidate = this.probation.last;
+            if ((candidate == victim)
+                    || (this.sketch.frequency(candidate.key) > this.sketch.frequency(victim.key))) {
+                this.evict(victim);
+            } else {
+                this.evict(candidate);
+            }
+        }
+    }
+
+    private void evict(final Node<R> node) {
+        this.nodes.remove(node.key, node);
+        this.remove(node);
+        this.stats.evicted();
+    }
+
+    private void remove(final Node<R> node) {
+        node.queue.remove(node);
+        this.weight -= node.weight;
+    }
+
+    private void refresh(final Object key, final Node<R> node, final PipelineEntry<T, R> entry) {
+        this.executor.execute(new Refresh(key, node, entry.getRunKey(), entry.get()));
+    }
+
+    private static final class Node<R> {
+
+        private static final VarHandle REFRESHING;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                REFRESHING = l.findVarHandle(Node.class, "refreshing", Boolean.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Object key;
+        private volatile R value;
+        private volatile long writeTime;
+        private volatile boolean refreshing;
+        private long weight;
+        private AccessQueue<R> queue;
+        private Node<R> prev;
+        private Node<R> next;
+
+        private Node(final Object key, final R value, final long weight, final long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+
+        private boolean startRefresh() {
+            return !this.refreshing && REFRESHING.compareAndSet(this, false, true);
+        }
+
+        private void endRefresh() {
+            this.refreshing = false;
+        }
+    }
+
+    @Contended
+    private static final class ReadBuffer {
+
+        private static final VarHandle WRITES;
+
+        static {
+            try {
+                final MethodHandles.Lookup l = MethodHandles.lookup();
+                WRITES = l.findVarHandle(ReadBuffer.class, "writes", Long.TYPE);
+            } catch (final Exception exc) {
+                throw Exceptions.staticCtorFail(exc);
+            }
+        }
+
+        private final Object[] slots = new Object[READ_BUFFER_SIZE];
+        private volatile long writes;
+
+        private long next() {
+            return (long) WRITES.getAndAdd(this, 1L);
+        }
+    }
+
+    private static final class AccessQueue<R> {
+
+        private Node<R> first;
+        private Node<R> last;
+        private long weight;
+
+        private void addLast(final Node<R> node) {
+            node.queue = this;
+            node.prev = this.last;
+            node.next = null;
+            if (this.last == null) {
+                this.first = node;
+            } else {
+                this.last.next = node;
+            }
+            this.last = node;
+            this.weight += node.weight;
+        }
+
+        private void remove(final Node<R> node) {
+            if (node.prev == null) {
+                this.first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                this.last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.queue = null;
+            this.weight -= node.weight;
+        }
+
+        private void moveToLast(final Node<R> node) {
+            if (this.last != node) {
+                this.remove(node);
+                this.addLast(node);
+            }
+        }
+    }
+
+    private static final class FrequencySketch {
+
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final long ONE_MASK = 0x1111111111111111L;
+        private static final int MAX_TABLE_SIZE = 1 << 20;
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int size;
+
+        private FrequencySketch(final long maximumWeight) {
+            final int capacity = (int) Math.min(maximumWeight, MAX_TABLE_SIZE);
+            this.table = new long[Math.max(1, Integer.highestOneBit(Math.max(1, capacity - 1) << 1))];
+            this.mask = this.table.length - 1;
+            this.sampleSize = 10 * Math.max(1, capacity);
+        }
+
+        private int frequency(final Object key) {
+            final int hash = spread(key.hashCode());
+            final int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                final int index = this.indexOf(hash, i);
+                final int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xFL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private void increment(final Object key) {
+            final int hash = spread(key.hashCode());
+            final int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= this.incrementAt(this.indexOf(hash, i), start + i);
+            }
+            if (added && (++this.size >= this.sampleSize)) {
+                this.reset();
+            }
+        }
+
+        private boolean incrementAt(final int index, final int counter) {
+            final int offset = counter << 2;
+            final long mask = 0xFL << offset;
+            if ((this.table[index] & mask) != mask) {
+                this.table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private int indexOf(final int hash, final int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & this.mask;
+        }
+
+        private void reset() {
+            int count = 0;
+            for (int i = 0; i < this.table.length; i++) {
+                count += Long.bitCount(this.table[i] & ONE_MASK);
+                this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+            }
+            this.size = (this.size - (count >>> 2)) >>> 1;
+        }
+
+        private static int spread(final int value) {
+            int x = ((value >>> 16) ^ value) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+
+    private final class Load extends EntryWrapper<T, T, R, R> {
+
+        private final Object key;
+
+        private Load(final Object key, final PipelineEntry<T, R> entry) {
+            super(entry, Funcs::identity, Funcs::passThrough);
+            this.key = key;
+        }
+
+        @Override
+        public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
+            try {
+                CacheStep.this.put(this.key, result);
+            } catch (final Throwable exception) {
+                this.entry.tryStop(exception);
+                Exceptions.rethrowIfError(exception);
+                return false;
+            }
+            return super.tryAccept(result, time, timeUnit);
+        }
+    }
+
+    private final class Refresh extends AbstractEntry<T, R> implements Runnable {
+
+        private final Object key;
+        private final Node<R> node;
+
+        private Refresh(final Object key, final Node<R> node, final RunId runId, final T input) {
+            super(runId, input);
+            this.key = key;
+            this.node = node;
+        }
+
+        @Override
+        public final void run() {
+            try {
+                CacheStep.this.step.process(this);
+            } catch (final Throwable exception) {
+                this.tryStop(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        @Override
+        public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
+            if (!this.node.refreshing) {
+                return false;
+            }
+            try {
+                CacheStep.this.put(this.key, result);
+            } finally {
+                this.node.endRefresh();
+            }
+            return true;
+        }
+
+        @Override
+        public final boolean tryStop(final Throwable throwable) {
+            if (!this.node.refreshing) {
+                return false;
+            }
+            this.node.endRefresh();
+            return true;
+        }
+
+        @Override
+        public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
+            if (!this.node.refreshing) {
+                return false;
+            }
+            PipelineExecutor.executeOrSchedule(CacheStep.this.executor, this, time, timeUnit);
+            return true;
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public final void onCancel(final Runnable callback) {
+        }
+
+        @Override
+        public final long getDeadline() {
+            return NO_DEADLINE;
+        }
+    }
+}
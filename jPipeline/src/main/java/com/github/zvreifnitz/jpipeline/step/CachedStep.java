@@ -0,0 +1,8 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+
+public interface CachedStep<T, R> extends PipelineStep<T, R> {
+
+    CacheStats getStats();
+}
@@ -0,0 +1,174 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.entry.EntryWrapper;
+import com.github.zvreifnitz.jpipeline.utils.Funcs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+final class CoalescingStep<T, R> implements PipelineStep<T, R> {
+
+    private static final Object SEALED = new Object();
+    private static final Object NULL_KEY = new Object();
+    private static final VarHandle FOLLOWERS;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            FOLLOWERS = l.findVarHandle(CoalescingStep.Flight.class, "followers", Object.class);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final Function<T, ?> keyFn;
+    private final PipelineStep<T, R> step;
+    private final ConcurrentHashMap<Object, Flight> flights;
+
+    CoalescingStep(final Function<T, ?> keyFn, final PipelineStep<T, R> step) {
+        this.keyFn = keyFn;
+        this.step = step;
+        this.flights = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public final void process(final PipelineEntry<T, R> entry) {
+        try {
+            final Object key = this.keyOf(entry.get());
+            while (true) {
+                final Flight flight = new Flight(key, entry);
+                final Flight current = this.flights.putIfAbsent(key, flight);
+                if (current == null) {
+                    flight.launch();
+                    return;
+                }
+                if (current.attach(entry)) {
+                    return;
+                }
+                this.flights.remove(key, current);
+            }
+        } catch (final Throwable exception) {
+            entry.tryStop(exception);
+            Exceptions.rethrowIfError(exception);
+        }
+    }
+
+    private Object keyOf(final T input) {
+        final Object key = this.keyFn.apply(input);
+        return (key == null) ? NULL_KEY : key;
+    }
+
+    private static final class Follower<T, R> {
+
+        private final PipelineEntry<T, R> entry;
+        private final Follower<T, R> next;
+
+        private Follower(final PipelineEntry<T, R> entry, final Follower<T, R> next) {
+            this.entry = entry;
+            this.next = next;
+        }
+    }
+
+    private final class Flight extends EntryWrapper<T, T, R, R> {
+
+        private final Object key;
+        private volatile Object followers;
+
+        private Flight(final Object key, final PipelineEntry<T, R> entry) {
+            super(entry, Funcs::identity, Funcs::passThrough);
+            this.key = key;
+        }
+
+        private void launch() {
+            try {
+                CoalescingStep.this.step.process(this);
+            } catch (final Throwable exception) {
+                this.tryStop(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        private boolean attach(final PipelineEntry<T, R> entry) {
+            Object current;
+            do {
+                current = this.followers;
+                if (current == SEALED) {
+                    return false;
+                }
+            } while (!FOLLOWERS.compareAndSet(this, current, new Follower<>(entry, this.follower(current))));
+            return true;
+        }
+
+        private Object seal() {
+            final Object followers = FOLLOWERS.getAndSet(this, SEALED);
+            if (followers != SEALED) {
+                CoalescingStep.this.flights.remove(this.key, this);
+            }
+            return followers;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Follower<T, R> follower(final Object followers) {
+            return (Follower<T, R>) followers;
+        }
+
+        @Override
+        public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
+            final Object followers = this.seal();
+            if (followers == SEALED) {
+                return false;
+            }
+            for (Follower<T, R> f = this.follower(followers); f != null; f = f.next) {
+                f.entry.tryAccept(result, time, timeUnit);
+            }
+            return super.tryAccept(result, time, timeUnit) || (followers != null);
+        }
+
+        @Override
+        public final boolean tryStop(final Throwable throwable) {
+            final Object followers = this.seal();
+            if (followers == SEALED) {
+                return false;
+            }
+            for (Follower<T, R> f = this.follower(followers); f != null; f = f.next) {
+                f.entry.tryStop(throwable);
+            }
+            return super.tryStop(throwable) || (followers != null);
+        }
+
+        @Override
+        public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
+            final Object followers = this.seal();
+            if (followers == SEALED) {
+                return false;
+            }
+            for (Follower<T, R> f = this.follower(followers); f != null; f = f.next) {
+                f.entry.tryRetry(time, timeUnit);
+            }
+            return super.tryRetry(time, timeUnit) || (followers != null);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            if (!super.isCancelled()) {
+                return false;
+            }
+            final Object followers = this.followers;
+            if (followers == SEALED) {
+                return true;
+            }
+            for (Follower<T, R> f = this.follower(followers); f != null; f = f.next) {
+                if (!f.entry.isCancelled()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
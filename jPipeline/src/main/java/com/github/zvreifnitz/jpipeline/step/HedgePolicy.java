@@ -0,0 +1,66 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+
+import static com.github.zvreifnitz.jcore.Preconditions.checkArgument;
+import static com.github.zvreifnitz.jcore.Preconditions.checkNullPointer;
+
+public final class HedgePolicy {
+
+    private static final double DEFAULT_PERCENTILE = 0.95;
+    private static final double DEFAULT_BUDGET = 0.1;
+    private static final int DEFAULT_WINDOW = 1024;
+
+    private final PipelineExecutor executor;
+    private final double percentile;
+    private final double budget;
+    private final int window;
+
+    private HedgePolicy(
+            final PipelineExecutor executor, final double percentile, final double budget, final int window) {
+        this.executor = executor;
+        this.percentile = percentile;
+        this.budget = budget;
+        this.window = window;
+    }
+
+    public static HedgePolicy defaults() {
+        return new HedgePolicy(PipelineExecutor.defaultExecutor(), DEFAULT_PERCENTILE, DEFAULT_BUDGET, DEFAULT_WINDOW);
+    }
+
+    public final HedgePolicy withExecutor(final PipelineExecutor executor) {
+        checkNullPointer(executor, "executor");
+        return new HedgePolicy(executor, this.percentile, this.budget, this.window);
+    }
+
+    public final HedgePolicy withPercentile(final double percentile) {
+        checkArgument((percentile > 0.0) && (percentile < 1.0), "percentile", "Value must be between 0 and 1.");
+        return new HedgePolicy(this.executor, percentile, this.budget, this.window);
+    }
+
+    public final HedgePolicy withBudget(final double budget) {
+        checkArgument((budget >= 0.0) && (budget <= 1.0), "budget", "Value must be between 0 and 1.");
+        return new HedgePolicy(this.executor, this.percentile, budget, this.window);
+    }
+
+    public final HedgePolicy withWindow(final int window) {
+        checkArgument(window > 0, "window", "Value must be positive.");
+        return new HedgePolicy(this.executor, this.percentile, this.budget, window);
+    }
+
+    public final PipelineExecutor getExecutor() {
+        return this.executor;
+    }
+
+    public final double getPercentile() {
+        return this.percentile;
+    }
+
+    public final double getBudget() {
+        return this.budget;
+    }
+
+    public final int getWindow() {
+        return this.window;
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.entry.EntryWrapper;
+import com.github.zvreifnitz.jpipeline.execution.Cancellable;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.utils.Funcs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+final class HedgedStep<T, R> implements PipelineStep<T, R> {
+
+    private static final long UNKNOWN = -1L;
+    private static final int MIN_SAMPLES = 32;
+    private static final long HEDGE_COST = 1_000L;
+    private static final long MAX_CREDIT = 10L * HEDGE_COST;
+    private static final VarHandle INDEX;
+    private static final VarHandle CREDIT;
+
+    static {
+        try {
+            final MethodHandles.Lookup l = MethodHandles.lookup();
+            INDEX = l.findVarHandle(HedgedStep.class, "index", Long.TYPE);
+            CREDIT = l.findVarHandle(HedgedStep.class, "credit", Long.TYPE);
+        } catch (final Exception exc) {
+            throw Exceptions.staticCtorFail(exc);
+        }
+    }
+
+    private final PipelineStep<T, R> step;
+    private final PipelineExecutor executor;
+    private final double percentile;
+    private final long deposit;
+    private final long[] samples;
+    private final long interval;
+    private volatile long index;
+    private volatile long credit;
+    private volatile long threshold = UNKNOWN;
+
+    HedgedStep(final PipelineStep<T, R> step, final HedgePolicy policy) {
+        this.step = step;
+        this.executor = policy.getExecutor();
+        this.percentile = policy.getPercentile();
+        this.deposit = Math.round(policy.getBudget() * HEDGE_COST);
+        final int size = Integer.highestOneBit(Math.max(MIN_SAMPLES, policy.getWindow() - 1) << 1);
+        this.samples = new long[size];
+        this.interval = Math.max(MIN_SAMPLES, size >>> 3);
+    }
+
+    @Override
+    public final void process(final PipelineEntry<T, R> entry) {
+        final Attempts attempts = new Attempts(entry);
+        this.deposit();
+        final long threshold = this.threshold;
+        if ((threshold != UNKNOWN) && (this.credit >= HEDGE_COST)) {
+            attempts.timer = this.executor.scheduleCancellable(attempts, threshold, TimeUnit.NANOSECONDS);
+        }
+        attempts.launch(true);
+    }
+
+    private void deposit() {
+        if ((this.deposit > 0L) && (this.credit < MAX_CREDIT)) {
+            CREDIT.getAndAdd(this, this.deposit);
+        }
+    }
+
+    private boolean tryHedge() {
+        long credit;
+        do {
+            credit = this.credit;
+            if (credit < HEDGE_COST) {
+                return false;
+            }
+        } while (!CREDIT.weakCompareAndSet(this, credit, credit - HEDGE_COST));
+        return true;
+    }
+
+    private void record(final long latency) {
+        final long[] samples = this.samples;
+        final long count = ((long) INDEX.getAndAdd(this, 1L)) + 1L;
+        samples[(int) ((count - 1L) & (samples.length - 1))] = latency;
+        if ((count == MIN_SAMPLES) || ((count > MIN_SAMPLES) && ((count % this.interval) == 0L))) {
+            final long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            Arrays.sort(sorted);
+            this.threshold = sorted[Math.min(sorted.length - 1, (int) (this.percentile * sorted.length))];
+        }
+    }
+
+    private final class Attempts implements Runnable {
+
+        private static final int RUNNING = 0;
+        private static final int DONE = 1;
+
+        private final PipelineEntry<T, R> entry;
+        private final long start;
+        private volatile Cancellable timer = Cancellable.NONE;
+        private int pending = 1;
+        private volatile int state = RUNNING;
+
+        private Attempts(final PipelineEntry<T, R> entry) {
+            this.entry = entry;
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public final void run() {
+            if ((this.state != RUNNING) || this.entry.isCancelled() || !HedgedStep.this.tryHedge()) {
+                return;
+            }
+            synchronized (this) {
+                this.pending++;
+            }
+            this.launch(false);
+        }
+
+        private void launch(final boolean primary) {
+            final Attempt attempt = new Attempt(this, primary);
+            try {
+                HedgedStep.this.step.process(attempt);
+            } catch (final Throwable exception) {
+                attempt.tryStop(exception);
+                Exceptions.rethrowIfError(exception);
+            }
+        }
+
+        private boolean complete() {
+            synchronized (this) {
+                if (this.state != RUNNING) {
+                    return false;
+                }
+                this.state = DONE;
+            }
+            this.timer.cancel();
+            return true;
+        }
+
+        private boolean fail() {
+            synchronized (this) {
+                return (--this.pending > 0) && (this.state == RUNNING);
+            }
+        }
+    }
+
+    private final class Attempt extends EntryWrapper<T, T, R, R> {
+
+        private final Attempts attempts;
+        private final boolean primary;
+
+        private Attempt(final Attempts attempts, final boolean primary) {
+            super(attempts.entry, Funcs::identity, Funcs::passThrough);
+            this.attempts = attempts;
+            this.primary = primary;
+        }
+
+        @Override
+        public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
+            if (this.primary) {
+                HedgedStep.this.record(System.nanoTime() - this.attempts.start);
+            }
+            return this.attempts.complete() && super.tryAccept(result, time, timeUnit);
+        }
+
+        @Override
+        public final boolean tryStop(final Throwable throwable) {
+            if (this.attempts.fail()) {
+                return true;
+            }
+            return this.attempts.complete() && super.tryStop(throwable);
+        }
+
+        @Override
+        public final boolean tryRetry(final long time, final TimeUnit timeUnit) {
+            return this.attempts.complete() && super.tryRetry(time, timeUnit);
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return (this.attempts.state != Attempts.RUNNING) || super.isCancelled();
+        }
+    }
+}
@@ -4,13 +4,17 @@ import com.github.zvreifnitz.jcore.exc.Exceptions;
 import com.github.zvreifnitz.jpipeline.PipelineEntry;
 import com.github.zvreifnitz.jpipeline.PipelineStep;
 import com.github.zvreifnitz.jpipeline.PipelineValue;
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.builder.Merger;
 import com.github.zvreifnitz.jpipeline.entry.Entries;
 import com.github.zvreifnitz.jpipeline.entry.EntryWrapper;
+import com.github.zvreifnitz.jpipeline.entry.Value;
+import com.github.zvreifnitz.jpipeline.pipeline.Deadlines;
 import com.github.zvreifnitz.jpipeline.pipeline.Finalizers;
 import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
 import com.github.zvreifnitz.jpipeline.utils.Funcs;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,6 +63,9 @@ public final class Steps {
         checkNullPointer(extractor, "extractor");
         checkNullPointer(step, "step");
         checkNullPointer(merger, "merger");
+        if (step instanceof SyncStep) {
+            return new SyncAdapterStep<>(extractor, (SyncStep<X, Y>) step, Merger.wrap(merger));
+        }
         return new AdapterStep<>(extractor, step, merger);
     }
 
@@ -72,6 +79,9 @@ public final class Steps {
         checkNullPointer(extractor, "extractor");
         checkNullPointer(step, "step");
         checkNullPointer(merger, "merger");
+        if (step instanceof SyncStep) {
+            return new SyncAdapterStep<>(extractor, (SyncStep<X, Y>) step, merger);
+        }
         return new AdapterStep<>(extractor, step, merger);
     }
 
@@ -109,9 +119,26 @@ public final class Steps {
         checkNullPointer(step, "step");
         checkNullPointer(mapper, "mapper");
         checkNullPointer(consumer, "consumer");
+        if (step instanceof SyncStep) {
+            return new SyncPeekStep<>(pipelineName, stepName, (SyncStep<T, R>) step, mapper, consumer);
+        }
         return new PeekStep<>(pipelineName, stepName, step, mapper, consumer);
     }
 
+    public static <T, X, R> SyncStep<T, R> fuse(final SyncStep<T, X> first, final SyncStep<X, R> second) {
+        checkNullPointer(first, "first");
+        checkNullPointer(second, "second");
+        final SyncStep<?, ?>[] head = fusedSteps(first);
+        final SyncStep<?, ?>[] tail = fusedSteps(second);
+        final SyncStep<?, ?>[] steps = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, steps, head.length, tail.length);
+        return new FusedStep<>(steps);
+    }
+
+    private static SyncStep<?, ?>[] fusedSteps(final SyncStep<?, ?> step) {
+        return (step instanceof FusedStep) ? ((FusedStep<?, ?>) step).steps : new SyncStep<?, ?>[]{step};
+    }
+
     public static <T, R> PipelineStep<T, R> retry(
             final PipelineStep<T, R> step, final LongUnaryOperator sleeper) {
         checkNullPointer(step, "step");
@@ -119,7 +146,34 @@ public final class Steps {
         return new RetryStep<>(step, sleeper);
     }
 
-    private static final class FunctionStep<T, R> implements PipelineStep<T, R> {
+    public static <T, R> PipelineStep<T, R> coalescing(final Function<T, ?> keyFn, final PipelineStep<T, R> step) {
+        checkNullPointer(keyFn, "keyFn");
+        checkNullPointer(step, "step");
+        return new CoalescingStep<>(keyFn, step);
+    }
+
+    public static <T, R> CachedStep<T, R> cached(
+            final Function<T, ?> keyFn, final PipelineStep<T, R> step, final CachePolicy policy) {
+        return cached(keyFn, step, r -> 1L, policy);
+    }
+
+    public static <T, R> CachedStep<T, R> cached(
+            final Function<T, ?> keyFn, final PipelineStep<T, R> step,
+            final ToLongFunction<R> weigher, final CachePolicy policy) {
+        checkNullPointer(keyFn, "keyFn");
+        checkNullPointer(step, "step");
+        checkNullPointer(weigher, "weigher");
+        checkNullPointer(policy, "policy");
+        return new CacheStep<>(keyFn, step, weigher, policy);
+    }
+
+    public static <T, R> PipelineStep<T, R> hedged(final PipelineStep<T, R> step, final HedgePolicy policy) {
+        checkNullPointer(step, "step");
+        checkNullPointer(policy, "policy");
+        return new HedgedStep<>(step, policy);
+    }
+
+    private static final class FunctionStep<T, R> implements SyncStep<T, R> {
 
         private final Function<T, R> func;
 
@@ -127,6 +181,11 @@ public final class Steps {
             this.func = func;
         }
 
+        @Override
+        public final R apply(final RunId runId, final T input) {
+            return this.func.apply(input);
+        }
+
         @Override
         public final void process(final PipelineEntry<T, R> entry) {
             try {
@@ -140,6 +199,71 @@ public final class Steps {
         }
     }
 
+    private static final class FusedStep<T, R> implements SyncStep<T, R> {
+
+        private final SyncStep<?, ?>[] steps;
+
+        private FusedStep(final SyncStep<?, ?>[] steps) {
+            this.steps = steps;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final R apply(final RunId runId, final T input) {
+            Object value = input;
+            for (final SyncStep<?, ?> step : this.steps) {
+                value = ((SyncStep<Object, Object>) step).apply(runId, value);
+            }
+            return (R) value;
+        }
+    }
+
+    private static final class SyncAdapterStep<T, X, Y, R> implements SyncStep<T, R> {
+
+        private final Function<T, X> extractor;
+        private final SyncStep<X, Y> step;
+        private final Merger<T, Y, R> merger;
+
+        private SyncAdapterStep(
+                final Function<T, X> extractor, final SyncStep<X, Y> step, final Merger<T, Y, R> merger) {
+            this.extractor = extractor;
+            this.step = step;
+            this.merger = merger;
+        }
+
+        @Override
+        public final R apply(final RunId runId, final T input) {
+            final Y result = this.step.apply(runId, this.extractor.apply(input));
+            return this.merger.apply(Value.create(runId, input), result);
+        }
+    }
+
+    private static final class SyncPeekStep<T, X, R> implements SyncStep<T, R> {
+
+        private final String pipelineName;
+        private final String stepName;
+        private final SyncStep<T, R> step;
+        private final Function<R, X> mapper;
+        private final Consumer<PipelineValue<X>> consumer;
+
+        private SyncPeekStep(
+                final String pipelineName, final String stepName, final SyncStep<T, R> step,
+                final Function<R, X> mapper, final Consumer<PipelineValue<X>> consumer) {
+            this.pipelineName = pipelineName;
+            this.stepName = stepName;
+            this.step = step;
+            this.mapper = mapper;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public final R apply(final RunId runId, final T input) {
+            final R result = this.step.apply(runId, input);
+            Funcs.peek(this.pipelineName, this.stepName, runId, result, this.mapper, this.consumer);
+            return result;
+        }
+    }
+
     private static final class AdapterStep<T, X, Y, R> extends StepWrapper<T, X, Y, R> {
 
         private AdapterStep(
@@ -223,7 +347,7 @@ public final class Steps {
         public final void process(final PipelineEntry<T, R> entry) {
             try {
                 final Runnable runnable = this.factory.create(
-                        entry.getRunId(), entry.get(), Finalizers.fromPipelineEntry(entry));
+                        entry.getRunKey(), entry.get(), Finalizers.fromPipelineEntry(entry));
                 runnable.run();
             } catch (final Throwable exception) {
                 entry.tryStop(exception);
@@ -236,7 +360,7 @@ public final class Steps {
 
         private final PipelineStep<T, R> step;
         private final LongUnaryOperator sleeper;
-        private final Map<String, Long> counts;
+        private final Map<RunId, Long> counts;
 
         private RetryStep(final PipelineStep<T, R> step, final LongUnaryOperator sleeper) {
             this.step = step;
@@ -255,23 +379,26 @@ public final class Steps {
 
         private boolean retry(final PipelineEntry<T, R> entry, final Throwable throwable) {
             try {
-                final String runId = entry.getRunId();
+                final RunId runId = entry.getRunKey();
                 final long sleep = this.calcSleep(this.getCount(runId));
                 if (sleep < 0) {
                     this.remove(runId);
                     return entry.tryStop(throwable);
+                } else if (Deadlines.isExpired(entry.getDeadline(), sleep, TimeUnit.MILLISECONDS)) {
+                    this.remove(runId);
+                    return entry.tryStop(Deadlines.exceeded());
                 } else {
                     return entry.tryRetry(sleep, TimeUnit.MILLISECONDS);
                 }
             } catch (final Throwable exception) {
-                this.remove(entry.getRunId());
+                this.remove(entry.getRunKey());
                 entry.tryStop(exception);
                 Exceptions.rethrowIfError(exception);
                 return false;
             }
         }
 
-        private void remove(final String runId) {
+        private void remove(final RunId runId) {
             this.counts.remove(runId);
         }
 
@@ -279,7 +406,7 @@ public final class Steps {
             return this.sleeper.applyAsLong(count);
         }
 
-        private long getCount(final String runId) {
+        private long getCount(final RunId runId) {
             return this.counts.merge(runId, 1L, Long::sum);
         }
 
@@ -292,7 +419,7 @@ public final class Steps {
             @Override
             public final boolean tryAccept(final R result, final long time, final TimeUnit timeUnit) {
                 if (super.tryAccept(result, time, timeUnit)) {
-                    RetryStep.this.remove(this.getRunId());
+                    RetryStep.this.remove(this.getRunKey());
                     return true;
                 } else {
                     return false;
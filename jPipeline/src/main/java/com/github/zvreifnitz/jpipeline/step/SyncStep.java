@@ -0,0 +1,22 @@
+package com.github.zvreifnitz.jpipeline.step;
+
+import com.github.zvreifnitz.jcore.exc.Exceptions;
+import com.github.zvreifnitz.jpipeline.PipelineEntry;
+import com.github.zvreifnitz.jpipeline.PipelineStep;
+import com.github.zvreifnitz.jpipeline.RunId;
+
+public interface SyncStep<T, R> extends PipelineStep<T, R> {
+
+    R apply(final RunId runId, final T input);
+
+    @Override
+    default void process(final PipelineEntry<T, R> entry) {
+        try {
+            final R result = this.apply(entry.getRunKey(), entry.get());
+            entry.accept(result);
+        } catch (final Throwable exception) {
+            entry.tryStop(exception);
+            Exceptions.rethrowIfError(exception);
+        }
+    }
+}
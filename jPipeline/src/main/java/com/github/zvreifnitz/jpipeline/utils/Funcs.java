@@ -1,6 +1,7 @@
 package com.github.zvreifnitz.jpipeline.utils;
 
 import com.github.zvreifnitz.jpipeline.PipelineValue;
+import com.github.zvreifnitz.jpipeline.RunId;
 import com.github.zvreifnitz.jpipeline.builder.Merger;
 
 import java.util.function.BiFunction;
@@ -80,6 +81,12 @@ public final class Funcs {
     public static <R, X> void peek(
             final String pipelineName, final String stepName, final String runId, final R result,
             final Function<R, X> mapper, final Consumer<PipelineValue<X>> consumer) {
+        peek(pipelineName, stepName, RunId.of(runId), result, mapper, consumer);
+    }
+
+    public static <R, X> void peek(
+            final String pipelineName, final String stepName, final RunId runId, final R result,
+            final Function<R, X> mapper, final Consumer<PipelineValue<X>> consumer) {
         try {
             consumer.accept(new PipelineValue<>(pipelineName, stepName, runId, mapper.apply(result)));
         } catch (final Exception ignored) {
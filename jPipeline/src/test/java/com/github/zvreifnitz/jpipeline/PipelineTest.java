@@ -1,15 +1,36 @@
 package com.github.zvreifnitz.jpipeline;
 
 import com.github.zvreifnitz.jcore.exc.AppException;
+import com.github.zvreifnitz.jpipeline.builder.QuorumBuilder;
+import com.github.zvreifnitz.jpipeline.entry.Value;
+import com.github.zvreifnitz.jpipeline.execution.HashedWheelTimer;
 import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutors;
+import com.github.zvreifnitz.jpipeline.pipeline.BoundedPipeline;
+import com.github.zvreifnitz.jpipeline.pipeline.DeadlineExceededException;
+import com.github.zvreifnitz.jpipeline.pipeline.ExecutionMode;
+import com.github.zvreifnitz.jpipeline.pipeline.OverflowPolicy;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineOptions;
+import com.github.zvreifnitz.jpipeline.pipeline.RunIdGenerators;
+import com.github.zvreifnitz.jpipeline.step.CachePolicy;
+import com.github.zvreifnitz.jpipeline.step.CachedStep;
+import com.github.zvreifnitz.jpipeline.step.HedgePolicy;
+import com.github.zvreifnitz.jpipeline.step.Steps;
 import com.github.zvreifnitz.jpipeline.utils.Funcs;
 import org.junit.Assert;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 
 import static com.github.zvreifnitz.jpipeline.BuilderHelper.*;
 
@@ -608,6 +629,1209 @@ public final class PipelineTest {
         }
     }
 
+    @org.junit.Test
+    public void testBoundedFail() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("blocked", e -> AUX_EXECUTOR.execute(() -> {
+                    awaitQuietly(latch);
+                    e.accept(e.get());
+                }));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.bounded(
+                "testBoundedFail", builder, PIPELINE_EXECUTOR, 2L, OverflowPolicy.FAIL)) {
+            final Future<Integer> f1 = pipeline.execute(1);
+            final Future<Integer> f2 = pipeline.execute(2);
+            final Future<Integer> f3 = pipeline.execute(3);
+            try {
+                f3.get();
+                Assert.fail("testBoundedFail");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof RejectedExecutionException);
+            }
+            latch.countDown();
+            Assert.assertEquals(1, (int) f1.get());
+            Assert.assertEquals(2, (int) f2.get());
+            Assert.assertEquals(4, (int) pipeline.execute(4).get());
+        }
+    }
+
+    @org.junit.Test
+    public void testBoundedCallerRuns() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("blocked", e -> AUX_EXECUTOR.execute(() -> {
+                    awaitQuietly(latch);
+                    e.accept(e.get());
+                }));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.bounded(
+                "testBoundedCallerRuns", builder, PIPELINE_EXECUTOR, 1L, i -> i, 10L, OverflowPolicy.CALLER_RUNS)) {
+            final Future<Integer> f1 = pipeline.execute(1);
+            final Future<Integer> f2 = pipeline.execute(2);
+            Assert.assertEquals(2L, ((BoundedPipeline<?, ?>) pipeline).getRunsInFlight());
+            latch.countDown();
+            Assert.assertEquals(1, (int) f1.get());
+            Assert.assertEquals(2, (int) f2.get());
+        }
+    }
+
+    @org.junit.Test
+    public void testBoundedWeight() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("blocked", e -> AUX_EXECUTOR.execute(() -> {
+                    awaitQuietly(latch);
+                    e.accept(e.get());
+                }));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.bounded(
+                "testBoundedWeight", builder, PIPELINE_EXECUTOR, 100L, i -> i, 10L, OverflowPolicy.FAIL,
+                PipelineOptions.defaults().withRunIdGenerator(RunIdGenerators.uuid()))) {
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                fs.add(pipeline.execute(4));
+            }
+            int rejected = 0;
+            for (final Future<Integer> f : fs) {
+                if (f.isDone()) {
+                    try {
+                        f.get();
+                        Assert.fail("testBoundedWeight");
+                    } catch (final ExecutionException exc) {
+                        Assert.assertTrue(exc.getCause() instanceof RejectedExecutionException);
+                        rejected++;
+                    }
+                }
+            }
+            Assert.assertEquals("testBoundedWeight", 3, rejected);
+            try {
+                pipeline.execute(11).get();
+                Assert.fail("testBoundedWeight");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof RejectedExecutionException);
+            }
+            latch.countDown();
+            for (final Future<Integer> f : fs.subList(0, 2)) {
+                Assert.assertEquals("testBoundedWeight", 4, (int) f.get());
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testBoundedBlock() throws Exception {
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("fork", IncrementStep.INSTANCE)
+                .addStep("ordered", OrderStep.INSTANCE);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.bounded(
+                "testBoundedBlock", builder, PIPELINE_EXECUTOR, 4L, OverflowPolicy.BLOCK)) {
+            final int count = 100;
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                fs.add(pipeline.execute(i));
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals("testBoundedBlock", i + 1, (int) fs.get(i).get());
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testDelayedDispatchRejected() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("retry", e -> e.retry(50L, TimeUnit.MILLISECONDS));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testDelayedDispatchRejected", builder, executor)) {
+            final Future<Integer> f = pipeline.execute(1);
+            sleepQuietly(10L);
+            executor.shutdown();
+            try {
+                f.get(5L, TimeUnit.SECONDS);
+                Assert.fail("testDelayedDispatchRejected");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof RejectedExecutionException);
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testExecuteAll() throws Exception {
+        final PipelineBuilder<Integer, Double> builder = p -> p
+                .addStep(IntToLongStep.INSTANCE)
+                .addStep(LongToDoubleStep.INSTANCE);
+        try (final Pipeline<Integer, Double> pipeline = Pipeline.build(builder, PIPELINE_EXECUTOR)) {
+            final int count = 1000;
+            final List<Integer> inputs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                inputs.add(i);
+            }
+            final List<Double> results = pipeline.executeAll(inputs).get();
+            Assert.assertEquals(count, results.size());
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals("testExecuteAll", i * 4.0, results.get(i), 0.0);
+            }
+            Assert.assertTrue(pipeline.executeAll(new ArrayList<>()).get().isEmpty());
+        }
+    }
+
+    @org.junit.Test
+    public void testExecuteAllAsync() throws Exception {
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("fork", IncrementStep.INSTANCE)
+                .addStep("fail", e -> {
+                    if (e.get() == 3) {
+                        e.stop(new AppException("testExecuteAllAsync"));
+                    } else {
+                        e.accept(e.get());
+                    }
+                });
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.bounded(
+                "testExecuteAllAsync", builder, PIPELINE_EXECUTOR, 2L, OverflowPolicy.BLOCK)) {
+            final CompletableFuture<Future<List<Integer>>> ok = new CompletableFuture<>();
+            pipeline.executeAllAsync(Arrays.asList(0, 1, 3), ok::complete);
+            Assert.assertEquals(Arrays.asList(1, 2, 4), ok.get().get());
+            final CompletableFuture<Future<List<Integer>>> fail = new CompletableFuture<>();
+            pipeline.executeAllAsync(Arrays.asList(0, 2, 4), fail::complete);
+            try {
+                fail.get().get();
+                Assert.fail("testExecuteAllAsync");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof AppException);
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testExecuteCompletable() throws Exception {
+        final PipelineBuilder<Integer, Double> builder = p -> p
+                .addStep(IntToLongForkStep.INSTANCE)
+                .addStep(LongToDoubleForkStep.INSTANCE);
+        try (final Pipeline<Integer, Double> pipeline = Pipeline.build(builder, PIPELINE_EXECUTOR)) {
+            final CompletableFuture<Double> f = pipeline.executeCompletable(7)
+                    .thenCompose(r -> pipeline.executeCompletable(r.intValue()));
+            Assert.assertEquals(112.0, f.get(), 0.0);
+        }
+        final PipelineBuilder<Integer, Integer> failing = p -> p
+                .addStep("fail", e -> e.stop(new AppException("testExecuteCompletable")));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(failing, PIPELINE_EXECUTOR)) {
+            final CompletableFuture<Integer> f = pipeline.executeCompletable(7);
+            try {
+                f.get();
+                Assert.fail("testExecuteCompletable");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof AppException);
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testVirtualThreads() throws Exception {
+        if (!PipelineExecutors.isVirtualThreadsSupported()) {
+            try {
+                PipelineExecutors.virtualThreads();
+                Assert.fail("testVirtualThreads");
+            } catch (final IllegalStateException ignored) {
+            }
+            return;
+        }
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("fork", IncrementStep.INSTANCE)
+                .addStep("ordered", OrderStep.INSTANCE);
+        try (final PipelineExecutor executor = PipelineExecutors.virtualThreads();
+             final Pipeline<Integer, Integer> pipeline = Pipeline.build(builder, executor)) {
+            final int count = 100;
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                fs.add(pipeline.execute(i));
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals("testVirtualThreads", i + 1, (int) fs.get(i).get());
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testHashedWheelTimer() throws Exception {
+        try (final HashedWheelTimer timer = new HashedWheelTimer("testHashedWheelTimer", 1L, TimeUnit.MILLISECONDS, 8)) {
+            final int count = 1000;
+            final CountDownLatch latch = new CountDownLatch(count / 2);
+            final AtomicInteger fired = new AtomicInteger();
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                final HashedWheelTimer.Timeout timeout = timer.schedule(Runnable::run, () -> {
+                    fired.incrementAndGet();
+                    latch.countDown();
+                }, 5L + (i % 20), TimeUnit.MILLISECONDS);
+                if ((i % 2) == 1) {
+                    Assert.assertTrue(timeout.cancel());
+                }
+            }
+            Assert.assertTrue(latch.await(5L, TimeUnit.SECONDS));
+            Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(5L));
+            Thread.sleep(50L);
+            Assert.assertEquals(count / 2, fired.get());
+        }
+    }
+
+    @org.junit.Test
+    public void testCancel() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger after = new AtomicInteger();
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("retrying", (final PipelineEntry<Integer, Integer> e) -> {
+                    attempts.incrementAndGet();
+                    e.retry(20L, TimeUnit.MILLISECONDS);
+                })
+                .addStep("after", e -> {
+                    after.incrementAndGet();
+                    e.accept(e.get());
+                });
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.bounded(
+                "testCancel", builder, PIPELINE_EXECUTOR, 1L, OverflowPolicy.FAIL)) {
+            final Future<Integer> f = pipeline.execute(1);
+            Thread.sleep(100L);
+            Assert.assertTrue(f.cancel(false));
+            Assert.assertTrue(f.isCancelled());
+            Assert.assertTrue(f.isDone());
+            Assert.assertFalse(f.cancel(false));
+            try {
+                f.get();
+                Assert.fail("testCancel");
+            } catch (final CancellationException ignored) {
+            }
+            final int count = attempts.get();
+            Thread.sleep(100L);
+            Assert.assertTrue(attempts.get() <= count + 1);
+            Assert.assertEquals(0, after.get());
+            final CompletableFuture<Integer> c = pipeline.executeCompletable(2);
+            Assert.assertTrue(c.cancel(false));
+            Assert.assertTrue(c.isCancelled());
+        }
+    }
+
+    @org.junit.Test
+    public void testCancelAware() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch stopped = new CountDownLatch(1);
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("long", e -> AUX_EXECUTOR.execute(() -> {
+                    started.countDown();
+                    while (!e.isCancelled()) {
+                        Thread.onSpinWait();
+                    }
+                    stopped.countDown();
+                    e.stop(new CancellationException());
+                }));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(builder, PIPELINE_EXECUTOR)) {
+            final Future<Integer> f = pipeline.execute(1);
+            Assert.assertTrue(started.await(5L, TimeUnit.SECONDS));
+            Assert.assertTrue(f.cancel(true));
+            Assert.assertTrue(stopped.await(5L, TimeUnit.SECONDS));
+        }
+    }
+
+    @org.junit.Test
+    public void testDeadline() throws Exception {
+        final AtomicInteger after = new AtomicInteger();
+        final PipelineBuilder<Integer, Integer> inner = p -> p
+                .addStep("slow", (final PipelineEntry<Integer, Integer> e) -> AUX_EXECUTOR.execute(() -> {
+                    sleepQuietly(100L);
+                    e.accept(e.get());
+                }))
+                .addStep("after", e -> {
+                    after.incrementAndGet();
+                    e.accept(e.get());
+                });
+        try (final Pipeline<Integer, Integer> nested = Pipeline.build(inner, PIPELINE_EXECUTOR)) {
+            final PipelineBuilder<Integer, Integer> builder = p -> p
+                    .addStep(IncrementStep.INSTANCE)
+                    .addStep(nested);
+            try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testDeadline", builder, PIPELINE_EXECUTOR)) {
+                final Future<Integer> f = pipeline.execute(null, 1, 20L, TimeUnit.MILLISECONDS);
+                try {
+                    f.get();
+                    Assert.fail("testDeadline");
+                } catch (final ExecutionException exc) {
+                    Assert.assertTrue(exc.getCause() instanceof DeadlineExceededException);
+                }
+                Assert.assertEquals(0, after.get());
+                Assert.assertEquals(1L, pipeline.getStats().getDeadlineExceeded());
+                Assert.assertEquals(2, (int) pipeline.execute(null, 1, 5L, TimeUnit.SECONDS).get());
+                Assert.assertEquals(1L, pipeline.getStats().getDeadlineExceeded());
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testDeadlineRetry() throws Exception {
+        final PipelineStep<Integer, Integer> step = e -> e.stop(new RuntimeException("no go"));
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("retryStep", retry(step, i -> 1000L));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testDeadlineRetry", builder, PIPELINE_EXECUTOR)) {
+            final long start = System.nanoTime();
+            final CompletableFuture<Integer> f = pipeline.executeCompletable(null, 1, 100L, TimeUnit.MILLISECONDS);
+            try {
+                f.get();
+                Assert.fail("testDeadlineRetry");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof DeadlineExceededException);
+            }
+            Assert.assertTrue((System.nanoTime() - start) < TimeUnit.MILLISECONDS.toNanos(900L));
+            Assert.assertEquals(1L, pipeline.getStats().getDeadlineExceeded());
+        }
+    }
+
+    @org.junit.Test
+    public void testRunIds() throws Exception {
+        final PipelineBuilder<Integer, String> builder = p -> p
+                .addStep("runId", (final PipelineEntry<Integer, String> e) -> e.accept(e.getRunId()));
+        try (final Pipeline<Integer, String> pipeline = Pipeline.build(builder, PIPELINE_EXECUTOR)) {
+            final int count = 10000;
+            final List<Integer> inputs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                inputs.add(i);
+            }
+            final List<String> ids = pipeline.executeAll(inputs).get();
+            Assert.assertEquals(count, new HashSet<>(ids).size());
+            Assert.assertEquals("custom", pipeline.execute("custom", 1).get());
+        }
+        try (final Pipeline<Integer, String> pipeline = Pipeline.build(
+                "testRunIds", builder, PIPELINE_EXECUTOR, RunIdGenerators.uuid())) {
+            Assert.assertEquals(36, pipeline.execute(1).get().length());
+        }
+        final RunIdGenerator generator = RunIdGenerators.fast();
+        final Set<RunId> keys = ConcurrentHashMap.newKeySet();
+        final List<Future<?>> fs = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            fs.add(ForkJoinPool.commonPool().submit(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    keys.add(generator.next());
+                }
+            }));
+        }
+        for (final Future<?> f : fs) {
+            f.get();
+        }
+        Assert.assertEquals(20000, keys.size());
+        final Value<Integer> value = new Value<Integer>() {
+            @Override
+            public String getRunId() {
+                return "custom";
+            }
+
+            @Override
+            public Integer get() {
+                return 1;
+            }
+        };
+        Assert.assertEquals(RunId.of("custom"), value.getRunKey());
+    }
+
+    @org.junit.Test
+    public void testFusedSteps() throws Exception {
+        final List<String> peeks = new CopyOnWriteArrayList<>();
+        final PipelineBuilder<Integer, String> builder = p -> p
+                .addStep(step(i -> i + 1))
+                .addStep(adapter(i -> i * 2, step(i -> i + 1), (i, r) -> i + r))
+                .peek(v -> peeks.add(v.getStep() + "=" + v.get()))
+                .addStep("fork", IncrementStep.INSTANCE)
+                .addStep(step(i -> i * 10))
+                .addStep(step(i -> "r" + i));
+        try (final Pipeline<Integer, String> pipeline = Pipeline.build("testFusedSteps", builder, PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("r80", pipeline.execute(1).get());
+            Assert.assertEquals(1, peeks.size());
+        }
+        final AtomicInteger after = new AtomicInteger();
+        final PipelineBuilder<Integer, Integer> failing = p -> p
+                .addStep(step(i -> i + 1))
+                .addStep(step((Integer i) -> {
+                    throw new IllegalArgumentException("testFusedSteps");
+                }))
+                .addStep(step(i -> after.incrementAndGet()));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testFusedSteps", failing, PIPELINE_EXECUTOR)) {
+            try {
+                pipeline.execute(1).get();
+                Assert.fail("testFusedSteps");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+            }
+            Assert.assertEquals(0, after.get());
+        }
+    }
+
+    @org.junit.Test
+    public void testNestedErrors() throws Exception {
+        final PipelineStep<Integer, Integer> step = e -> e.accept(e.get() + 1);
+        final PipelineStep<Integer, Integer> failing3 = e -> {
+            if ((e.get() % 3) == 0) {
+                throw new RuntimeException("no go");
+            }
+            e.accept(e.get());
+        };
+        final PipelineStep<Integer, Integer> failing5 = e -> {
+            if ((e.get() % 5) == 0) {
+                throw new RuntimeException("no go");
+            }
+            e.accept(e.get());
+        };
+        final PipelineBuilder<Integer, Integer> branch = p -> p
+                .addStep("branch_1", step)
+                .addStep("branch_2", failing3);
+        final PipelineBuilder<Integer, Integer> ordered = p -> p
+                .addStep("ordered_1", (final PipelineEntry<Integer, Integer> e) -> e.accept(e.get(), 5, TimeUnit.MILLISECONDS))
+                .addStep("ordered_2", failing5);
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .buildParallelStep("par_1", branch, BuilderHelper.merger())
+                .buildParallelStep("par_2", branch, BuilderHelper.merger())
+                .join()
+                .buildOrderedStep("ordered", ordered);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testNestedErrors", builder, PIPELINE_EXECUTOR)) {
+            final int count = 30;
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                fs.add(pipeline.execute(i));
+            }
+            for (int i = 0; i < count; i++) {
+                final Future<Integer> f = fs.get(i);
+                if ((((i + 1) % 3) == 0) || (((i + 1) % 5) == 0)) {
+                    try {
+                        f.get();
+                        Assert.fail("testNestedErrors");
+                    } catch (final ExecutionException exc) {
+                        Assert.assertEquals("testNestedErrors", "no go", exc.getCause().getMessage());
+                    }
+                } else {
+                    Assert.assertEquals("testNestedErrors", i + 1, (int) f.get());
+                }
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testFrameMode() throws Exception {
+        final AtomicInteger retries = new AtomicInteger();
+        final PipelineStep<Integer, Integer> delayed = e -> e.accept(e.get() + 1, 1, TimeUnit.MILLISECONDS);
+        final PipelineStep<Integer, Integer> retrying = e -> {
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                retries.incrementAndGet();
+                e.retry();
+            } else {
+                e.accept(e.get() + 1);
+            }
+        };
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep(step(i -> i + 1))
+                .addStep("delayed", delayed)
+                .addStep("async", IncrementStep.INSTANCE)
+                .addStep("retrying", retrying)
+                .addParallelStep("par_1", IncrementStep.INSTANCE, BuilderHelper.merger())
+                .addParallelStep("par_2", IncrementStep.INSTANCE, BuilderHelper.merger())
+                .join()
+                .addStep("after", IncrementStep.INSTANCE);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testFrameMode", builder, PIPELINE_EXECUTOR, ExecutionMode.FRAME)) {
+            final int count = 1000;
+            final List<Future<Integer>> fs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                fs.add(pipeline.execute(i));
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals("testFrameMode", i + 6, (int) fs.get(i).get());
+            }
+        }
+        Assert.assertTrue("testFrameMode", retries.get() > 0);
+        final PipelineBuilder<Integer, Integer> failing = p -> p
+                .addStep("delayed", delayed)
+                .addStep("failing", (final PipelineEntry<Integer, Integer> e) -> e.stop(new IllegalArgumentException()))
+                .addStep("async", IncrementStep.INSTANCE);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testFrameMode", failing, PIPELINE_EXECUTOR, ExecutionMode.FRAME)) {
+            try {
+                pipeline.execute(1).get();
+                Assert.fail("testFrameMode");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testFrameStaleCompletion() throws Exception {
+        final CompletableFuture<PipelineEntry<Integer, Integer>> first = new CompletableFuture<>();
+        final CompletableFuture<PipelineEntry<Integer, Integer>> second = new CompletableFuture<>();
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("first", (final PipelineEntry<Integer, Integer> e) -> {
+                    first.complete(e);
+                    e.accept(e.get() + 1);
+                })
+                .addStep("second", (final PipelineEntry<Integer, Integer> e) -> second.complete(e));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testFrameStaleCompletion", builder, PIPELINE_EXECUTOR, ExecutionMode.FRAME)) {
+            final Future<Integer> future = pipeline.execute(1);
+            final PipelineEntry<Integer, Integer> current = second.get(5L, TimeUnit.SECONDS);
+            final PipelineEntry<Integer, Integer> stale = first.get();
+            Assert.assertFalse("testFrameStaleCompletion", stale.tryAccept(100));
+            Assert.assertFalse("testFrameStaleCompletion", stale.tryStop(new IllegalStateException()));
+            Assert.assertFalse("testFrameStaleCompletion", stale.tryRetry());
+            Assert.assertFalse("testFrameStaleCompletion", future.isDone());
+            Assert.assertEquals("testFrameStaleCompletion", 2, (int) current.get());
+            Assert.assertTrue("testFrameStaleCompletion", current.tryAccept(current.get() + 1));
+            Assert.assertEquals("testFrameStaleCompletion", 3, (int) future.get());
+        }
+    }
+
+    @org.junit.Test
+    public void testEntryStateStress() throws Exception {
+        final ExecutorService racer = Executors.newFixedThreadPool(2);
+        try {
+            final Set<PipelineEntry<?, ?>> completed = ConcurrentHashMap.newKeySet();
+            final AtomicInteger duplicates = new AtomicInteger();
+            final PipelineStep<Integer, Integer> acceptAccept = e -> {
+                final int next = e.get() + 1;
+                racer.execute(() -> {
+                    if (e.tryAccept(next) && !completed.add(e)) {
+                        duplicates.incrementAndGet();
+                    }
+                });
+                if (e.tryAccept(next) && !completed.add(e)) {
+                    duplicates.incrementAndGet();
+                }
+            };
+            final PipelineStep<Integer, Integer> stopAccept = e -> {
+                final int next = e.get() + 1;
+                racer.execute(() -> {
+                    if (e.tryStop(new IllegalStateException("stopped")) && !completed.add(e)) {
+                        duplicates.incrementAndGet();
+                    }
+                });
+                if (e.tryAccept(next) && !completed.add(e)) {
+                    duplicates.incrementAndGet();
+                }
+            };
+            final PipelineBuilder<Integer, Integer> builder = p -> p
+                    .addStep("race_1", acceptAccept)
+                    .addStep("race_2", acceptAccept)
+                    .addStep("race_3", stopAccept)
+                    .addStep("race_4", acceptAccept);
+            try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testEntryStateStress", builder, PIPELINE_EXECUTOR)) {
+                final int count = 10000;
+                final List<Future<Integer>> fs = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    fs.add(pipeline.execute(i));
+                }
+                for (int i = 0; i < count; i++) {
+                    try {
+                        Assert.assertEquals("testEntryStateStress", i + 4, (int) fs.get(i).get(10, TimeUnit.SECONDS));
+                    } catch (final ExecutionException exc) {
+                        Assert.assertEquals("testEntryStateStress", "stopped", exc.getCause().getMessage());
+                    }
+                }
+            }
+            Assert.assertEquals("testEntryStateStress", 0, duplicates.get());
+        } finally {
+            racer.shutdown();
+        }
+    }
+
+    @org.junit.Test
+    public void testRecycling() throws Exception {
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep(step(i -> i + 1))
+                .addParallelStep("par_1", IncrementStep.INSTANCE, (final Integer i, final Integer x) -> x)
+                .addParallelStep("par_2", IncrementStep.INSTANCE, Integer::sum)
+                .addParallelStep("par_3", step(i -> i * 2), Integer::sum)
+                .join()
+                .addStep("after", IncrementStep.INSTANCE);
+        final PipelineOptions options = PipelineOptions.defaults().withRecycling(true);
+        final ExecutorService callers = Executors.newFixedThreadPool(4);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testRecycling", builder, PIPELINE_EXECUTOR, options)) {
+            final List<Future<Boolean>> checks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                checks.add(callers.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        if (pipeline.execute(i).get() != (4 * (i + 1)) + 3) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (final Future<Boolean> check : checks) {
+                Assert.assertTrue("testRecycling", check.get());
+            }
+            final Future<Integer> first = pipeline.execute(1);
+            Assert.assertEquals("testRecycling", 11, (int) first.get());
+            final Future<Integer> second = pipeline.execute(2);
+            Assert.assertEquals("testRecycling", 15, (int) second.get());
+            Assert.assertNotSame("testRecycling", first, second);
+            Assert.assertTrue("testRecycling", first.isDone());
+            Assert.assertEquals("testRecycling", 11, (int) first.get(1L, TimeUnit.SECONDS));
+        } finally {
+            callers.shutdown();
+        }
+        final PipelineBuilder<Integer, Integer> failing = p -> p
+                .addParallelStep("par_1", IncrementStep.INSTANCE, (final Integer i, final Integer x) -> x)
+                .addParallelStep("failing", (final PipelineEntry<Integer, Integer> e) -> {
+                    if ((e.get() % 2) == 0) {
+                        e.stop(new IllegalArgumentException());
+                    } else {
+                        e.accept(e.get());
+                    }
+                }, Integer::sum)
+                .join();
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testRecycling", failing, PIPELINE_EXECUTOR, options)) {
+            for (int i = 0; i < 100; i++) {
+                try {
+                    Assert.assertEquals("testRecycling", (2 * i) + 1, (int) pipeline.execute(i).get());
+                    Assert.assertEquals("testRecycling", 1, i % 2);
+                } catch (final ExecutionException exc) {
+                    Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+                    Assert.assertEquals("testRecycling", 0, i % 2);
+                }
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testRecyclingRetainedBatch() throws Exception {
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addParallelStep("par_1", IncrementStep.INSTANCE, (final Integer i, final Integer x) -> x)
+                .addParallelStep("par_2", IncrementStep.INSTANCE, Integer::sum)
+                .addParallelStep("par_3", IncrementStep.INSTANCE, Integer::sum)
+                .join();
+        final PipelineOptions options = PipelineOptions.defaults().withRecycling(true);
+        final ExecutorService deferred = Executors.newSingleThreadExecutor();
+        final PipelineExecutor executor = new PipelineExecutor() {
+            @Override
+            public void execute(final Runnable runnable) {
+                deferred.execute(runnable);
+            }
+
+            @Override
+            public void execute(final List<? extends Runnable> runnables) {
+                deferred.execute(() -> {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+                    for (final Runnable runnable : runnables) {
+                        runnable.run();
+                    }
+                });
+            }
+
+            @Override
+            public void schedule(final Runnable runnable, final long time, final TimeUnit timeUnit) {
+                deferred.execute(runnable);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testRecyclingRetainedBatch", builder, executor, options)) {
+            for (int i = 0; i < 20; i++) {
+                Assert.assertEquals("testRecyclingRetainedBatch", 3 * (i + 1),
+                        (int) pipeline.execute(i).get(5L, TimeUnit.SECONDS));
+            }
+        } finally {
+            deferred.shutdown();
+        }
+    }
+
+    @org.junit.Test
+    public void testParallelReduce() throws Exception {
+        final int width = 37;
+        final List<PipelineStep<Integer, String>> steps = new ArrayList<>(width);
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < width; i++) {
+            final int index = i;
+            steps.add(e -> e.accept(e.get() + ":" + index, ThreadLocalRandom.current().nextInt(3), TimeUnit.MILLISECONDS));
+        }
+        final BinaryOperator<String> reducer = (a, b) -> a + "," + b;
+        final PipelineBuilder<Integer, String> builder = p -> p
+                .addStep(step(i -> i + 1))
+                .addParallelReduceStep("reduce", steps, reducer);
+        for (final PipelineOptions options : Arrays.asList(
+                PipelineOptions.defaults(), PipelineOptions.defaults().withRecycling(true))) {
+            try (final Pipeline<Integer, String> pipeline = Pipeline.build(
+                    "testParallelReduce", builder, PIPELINE_EXECUTOR, options)) {
+                final int count = 200;
+                final List<Future<String>> fs = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    fs.add(pipeline.execute(i));
+                }
+                for (int i = 0; i < count; i++) {
+                    expected.setLength(0);
+                    for (int j = 0; j < width; j++) {
+                        expected.append(j == 0 ? "" : ",").append(i + 1).append(':').append(j);
+                    }
+                    Assert.assertEquals("testParallelReduce", expected.toString(), fs.get(i).get());
+                }
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testAdaptiveParallelism() throws Exception {
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final PipelineStep<Integer, Integer> cheap = step(i -> {
+            threads.add(Thread.currentThread());
+            return i + 1;
+        });
+        final PipelineStep<Integer, Integer> expensive = step(i -> {
+            sleepQuietly(1L);
+            return i + 1;
+        });
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addParallelStep("cheap_1", cheap, (final Integer i, final Integer x) -> x)
+                .addParallelStep("cheap_2", cheap, Integer::sum)
+                .addParallelStep("cheap_3", cheap, Integer::sum)
+                .addParallelStep("cheap_4", cheap, Integer::sum)
+                .join()
+                .addParallelStep("slow_1", expensive, (final Integer i, final Integer x) -> x)
+                .addParallelStep("slow_2", expensive, Integer::sum)
+                .addParallelStep("slow_3", IncrementStep.INSTANCE, Integer::sum)
+                .join();
+        final PipelineOptions options = PipelineOptions.defaults().withAdaptiveParallelism(true);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testAdaptiveParallelism", builder, PIPELINE_EXECUTOR, options)) {
+            boolean inline = false;
+            for (int i = 0; i < 500; i++) {
+                threads.clear();
+                Assert.assertEquals("testAdaptiveParallelism", (12 * (i + 1)) + 3, (int) pipeline.execute(i).get());
+                inline |= (threads.size() == 1);
+            }
+            Assert.assertTrue("testAdaptiveParallelism", inline);
+        }
+    }
+
+    @org.junit.Test
+    public void testParallelFailFast() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final PipelineStep<Integer, Integer> retrying = e -> {
+            attempts.incrementAndGet();
+            e.retry(1L, TimeUnit.MILLISECONDS);
+        };
+        final CountDownLatch slowStarted = new CountDownLatch(1);
+        final PipelineStep<Integer, Integer> slow = e -> {
+            e.accept(e.get(), 20L, TimeUnit.MILLISECONDS);
+            slowStarted.countDown();
+        };
+        final PipelineStep<Integer, Integer> failing = e -> AUX_EXECUTOR.execute(() -> {
+            awaitQuietly(slowStarted);
+            e.stop(new IllegalArgumentException());
+        });
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addParallelStep("retrying", retrying, (final Integer i, final Integer x) -> x)
+                .addParallelStep("slow", slow, Integer::sum)
+                .addParallelStep("failing", failing, Integer::sum)
+                .join();
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testParallelFailFast", builder, PIPELINE_EXECUTOR)) {
+            try {
+                pipeline.execute(1).get();
+                Assert.fail("testParallelFailFast");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+            }
+            sleepQuietly(50L);
+            final int stopped = attempts.get();
+            sleepQuietly(50L);
+            Assert.assertEquals("testParallelFailFast", stopped, attempts.get());
+            Assert.assertEquals("testParallelFailFast", 2L, pipeline.getStats().getSkippedBranches());
+            Assert.assertEquals("testParallelFailFast", 1L, pipeline.getStats().getDiscardedResults());
+        }
+    }
+
+    @org.junit.Test
+    public void testParallelQuorum() throws Exception {
+        final PipelineStep<Integer, Integer> slow = e -> e.accept(e.get() + 100, 200L, TimeUnit.MILLISECONDS);
+        final PipelineStep<Integer, Integer> failing = e -> e.stop(new IllegalArgumentException());
+        final PipelineStep<Integer, Integer> fast = e -> AUX_EXECUTOR.execute(() -> e.accept(e.get() + 10));
+        final Function<Integer, PipelineBuilder<Integer, Integer>> builder = quorum -> p -> {
+            final QuorumBuilder<Integer, Integer, Integer> replicas = p
+                    .addQuorumStep("slow", slow)
+                    .addQuorumStep("failing", failing)
+                    .addQuorumStep("fast", fast);
+            return (quorum == 1) ? replicas.joinFirst() : replicas.joinQuorum(quorum, rs -> rs.stream().mapToInt(r -> r).sum());
+        };
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testParallelQuorum", builder.apply(1), PIPELINE_EXECUTOR)) {
+            final long start = System.nanoTime();
+            Assert.assertEquals("testParallelQuorum", Integer.valueOf(11), pipeline.execute(1).get());
+            Assert.assertTrue("testParallelQuorum", (System.nanoTime() - start) < TimeUnit.MILLISECONDS.toNanos(150L));
+            Thread.sleep(300L);
+            Assert.assertEquals("testParallelQuorum", Integer.valueOf(12), pipeline.execute(2).get());
+        }
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testParallelQuorum", builder.apply(2), PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("testParallelQuorum", Integer.valueOf(112), pipeline.execute(1).get());
+        }
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testParallelQuorum", builder.apply(3), PIPELINE_EXECUTOR)) {
+            try {
+                pipeline.execute(1).get();
+                Assert.fail("testParallelQuorum");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+            }
+        }
+        try {
+            Pipeline.build("testParallelQuorum", builder.apply(4), PIPELINE_EXECUTOR);
+            Assert.fail("testParallelQuorum");
+        } catch (final IllegalArgumentException ignored) {
+        }
+        final PipelineBuilder<Integer, List<Integer>> nulls = p -> p
+                .addQuorumStep("null", (final PipelineEntry<Integer, Integer> e) -> e.accept(null))
+                .addQuorumStep("slow", slow)
+                .joinQuorum(1, ArrayList::new);
+        try (final Pipeline<Integer, List<Integer>> pipeline = Pipeline.build("testParallelQuorum", nulls, PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("testParallelQuorum", Arrays.asList((Integer) null), pipeline.execute(1).get());
+        }
+    }
+
+    @org.junit.Test
+    public void testHedgedStep() throws Exception {
+        final PipelineExecutor executor = PipelineExecutor.defaultExecutor();
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicBoolean slowNext = new AtomicBoolean();
+        final PipelineStep<Integer, Integer> step = e -> {
+            invocations.incrementAndGet();
+            if (slowNext.getAndSet(false)) {
+                executor.schedule(() -> e.tryAccept(e.get() + 1), 300L, TimeUnit.MILLISECONDS);
+            } else {
+                AUX_EXECUTOR.execute(() -> e.tryAccept(e.get() + 1));
+            }
+        };
+        for (final double budget : new double[]{1.0, 0.0}) {
+            final HedgePolicy policy = HedgePolicy.defaults().withExecutor(executor).withBudget(budget);
+            final PipelineBuilder<Integer, Integer> builder = p -> p.addStep("hedged", Steps.hedged(step, policy));
+            try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testHedgedStep", builder, PIPELINE_EXECUTOR)) {
+                for (int i = 0; i < 64; i++) {
+                    Assert.assertEquals("testHedgedStep", Integer.valueOf(i + 1), pipeline.execute(i).get());
+                }
+                invocations.set(0);
+                slowNext.set(true);
+                final long start = System.nanoTime();
+                Assert.assertEquals("testHedgedStep", Integer.valueOf(2), pipeline.execute(1).get());
+                final long elapsed = System.nanoTime() - start;
+                if (budget > 0.0) {
+                    Assert.assertTrue("testHedgedStep", elapsed < TimeUnit.MILLISECONDS.toNanos(200L));
+                    Assert.assertEquals("testHedgedStep", 2, invocations.get());
+                } else {
+                    Assert.assertTrue("testHedgedStep", elapsed >= TimeUnit.MILLISECONDS.toNanos(250L));
+                    Assert.assertEquals("testHedgedStep", 1, invocations.get());
+                }
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testParallelReplicas() throws Exception {
+        final AtomicInteger invocations = new AtomicInteger();
+        final PipelineStep<Integer, Integer> sync = e -> {
+            invocations.incrementAndGet();
+            e.accept(e.get());
+        };
+        final PipelineStep<Integer, Integer> async = e -> AUX_EXECUTOR.execute(() -> e.accept(1));
+        final PipelineBuilder<Integer, Integer> fixed = p -> p.addParallelReplicas("fixed", 30, sync, Integer::sum);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testParallelReplicas", fixed, PIPELINE_EXECUTOR)) {
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals("testParallelReplicas", Integer.valueOf(30 * i), pipeline.execute(i).get());
+            }
+            Assert.assertEquals("testParallelReplicas", 300, invocations.get());
+        }
+        final PipelineBuilder<Integer, Integer> dynamic = p -> p.addParallelReplicas("dynamic", i -> i, async, Integer::sum);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testParallelReplicas", dynamic, PIPELINE_EXECUTOR)) {
+            for (int i = 1; i < 50; i++) {
+                Assert.assertEquals("testParallelReplicas", Integer.valueOf(i), pipeline.execute(i).get());
+            }
+            try {
+                pipeline.execute(0).get();
+                Assert.fail("testParallelReplicas");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+            }
+        }
+        final PipelineStep<Integer, Integer> failing = e -> {
+            if (invocations.incrementAndGet() == 5) {
+                e.stop(new IllegalStateException());
+            } else {
+                e.accept(1);
+            }
+        };
+        invocations.set(0);
+        final PipelineBuilder<Integer, Integer> failed = p -> p.addParallelReplicas(8, failing, Integer::sum);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testParallelReplicas", failed, PIPELINE_EXECUTOR)) {
+            try {
+                pipeline.execute(0).get();
+                Assert.fail("testParallelReplicas");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalStateException);
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testScatterGather() throws Exception {
+        final PipelineBuilder<Integer, Integer> element = p -> p
+                .addStep(step(i -> {
+                    if (i < 0) {
+                        throw new IllegalArgumentException();
+                    }
+                    return i * 2;
+                }))
+                .addStep(IncrementStep.INSTANCE);
+        final PipelineBuilder<List<Integer>, List<Integer>> builder = p -> p
+                .buildScatterGatherStep("scatter", Function.identity(), element,
+                        (final List<Integer> input, final List<Integer> results) -> new ArrayList<>(results));
+        try (final Pipeline<List<Integer>, List<Integer>> pipeline = Pipeline.build("testScatterGather", builder, PIPELINE_EXECUTOR)) {
+            for (final int size : new int[]{0, 1, 7, 100, 1000}) {
+                final List<Integer> input = new ArrayList<>(size);
+                final List<Integer> expected = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    input.add(i);
+                    expected.add((i * 2) + 1);
+                }
+                Assert.assertEquals("testScatterGather", expected, pipeline.execute(input).get());
+            }
+            try {
+                pipeline.execute(Arrays.asList(1, 2, -3, 4)).get();
+                Assert.fail("testScatterGather");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testOrderWindow() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final int count = 100;
+        final int window = 8;
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<Integer> released = new CopyOnWriteArrayList<>();
+        final PipelineStep<Integer, Integer> step = e -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            scheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                e.accept(e.get());
+            }, (count - e.get()) % 7, TimeUnit.MILLISECONDS);
+        };
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addOrderedStep("ordered", step, window)
+                .addStep("released", step(i -> {
+                    released.add(i);
+                    return i;
+                }));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testOrderWindow", builder, executor)) {
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                fs.add(pipeline.execute(i));
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals("testOrderWindow", i, fs.get(i).get().intValue());
+            }
+        } finally {
+            scheduler.shutdownNow();
+            executor.shutdownNow();
+        }
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals("testOrderWindow", i, released.get(i).intValue());
+        }
+        Assert.assertTrue("testOrderWindow", maxInFlight.get() > 1);
+        Assert.assertTrue("testOrderWindow", maxInFlight.get() <= window);
+    }
+
+    @org.junit.Test
+    public void testKeyedOrder() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final int count = 1000;
+        final int keys = 20;
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<List<Integer>> processed = new ArrayList<>(keys);
+        for (int i = 0; i < keys; i++) {
+            processed.add(new CopyOnWriteArrayList<>());
+        }
+        final PipelineStep<Integer, Integer> step = e -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            processed.get(e.get() % keys).add(e.get());
+            scheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                e.accept(e.get());
+            }, e.get() % 3, TimeUnit.MILLISECONDS);
+        };
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addKeyedOrderedStep("keyed", i -> i % keys, step);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testKeyedOrder", builder, executor)) {
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                fs.add(pipeline.execute(i));
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals("testKeyedOrder", i, fs.get(i).get().intValue());
+            }
+        } finally {
+            scheduler.shutdownNow();
+            executor.shutdownNow();
+        }
+        for (int key = 0; key < keys; key++) {
+            final List<Integer> values = processed.get(key);
+            Assert.assertEquals("testKeyedOrder", count / keys, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Assert.assertEquals("testKeyedOrder", key + (i * keys), values.get(i).intValue());
+            }
+        }
+        Assert.assertTrue("testKeyedOrder", maxInFlight.get() > 1);
+    }
+
+    @org.junit.Test
+    public void testBatchingStep() throws Exception {
+        final List<Integer> batches = new CopyOnWriteArrayList<>();
+        final Function<List<Integer>, List<Integer>> bulk = inputs -> {
+            batches.add(inputs.size());
+            if (inputs.contains(-1)) {
+                throw new IllegalArgumentException();
+            }
+            final List<Integer> results = new ArrayList<>(inputs.size());
+            for (final Integer input : inputs) {
+                results.add(input * 2);
+            }
+            return results;
+        };
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addBatchingStep("batching", 10, 20L, TimeUnit.MILLISECONDS, bulk);
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testBatchingStep", builder, PIPELINE_EXECUTOR)) {
+            final int count = 25;
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                fs.add(pipeline.execute(i));
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals("testBatchingStep", i * 2, fs.get(i).get().intValue());
+            }
+            Assert.assertEquals("testBatchingStep", count, batches.stream().mapToInt(Integer::intValue).sum());
+            Assert.assertTrue("testBatchingStep", batches.size() < count);
+            Assert.assertTrue("testBatchingStep", batches.stream().allMatch(size -> size <= 10));
+            try {
+                pipeline.execute(-1).get();
+                Assert.fail("testBatchingStep");
+            } catch (final ExecutionException exc) {
+                Assert.assertTrue(exc.getCause() instanceof IllegalArgumentException);
+            }
+        }
+    }
+
+    @org.junit.Test
+    public void testCoalescingStep() throws Exception {
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final PipelineStep<Integer, Integer> slow = e -> {
+            final int invocation = invocations.incrementAndGet();
+            AUX_EXECUTOR.execute(() -> {
+                awaitQuietly(release);
+                if ((e.get() < 0) && (invocation == 1)) {
+                    e.stop(new IllegalArgumentException());
+                } else {
+                    e.accept(Math.abs(e.get()) * 10);
+                }
+            });
+        };
+        final PipelineBuilder<Integer, Integer> builder = p -> p
+                .addStep("coalescing", Steps.retry(Steps.coalescing(i -> i, slow), count -> (count < 3) ? 1L : -1L));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testCoalescingStep", builder, PIPELINE_EXECUTOR)) {
+            final List<Future<Integer>> fs = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                fs.add(pipeline.execute(-1));
+            }
+            sleepQuietly(50L);
+            Assert.assertEquals("testCoalescingStep", 1, invocations.get());
+            release.countDown();
+            for (final Future<Integer> f : fs) {
+                Assert.assertEquals("testCoalescingStep", 10, f.get().intValue());
+            }
+            invocations.set(0);
+            Assert.assertEquals("testCoalescingStep", 20, pipeline.execute(2).get().intValue());
+            Assert.assertEquals("testCoalescingStep", 30, pipeline.execute(3).get().intValue());
+            Assert.assertEquals("testCoalescingStep", 2, invocations.get());
+        }
+        final PipelineBuilder<Integer, Integer> nullKeys = p -> p
+                .addStep("coalescing", Steps.coalescing(i -> null, (final PipelineEntry<Integer, Integer> e) -> e.accept(e.get())));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build("testCoalescingStep", nullKeys, PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("testCoalescingStep", 4, pipeline.execute(4).get().intValue());
+            Assert.assertEquals("testCoalescingStep", 5, pipeline.execute(5).get().intValue());
+        }
+    }
+
+    @org.junit.Test
+    public void testCachedStep() throws Exception {
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger version = new AtomicInteger();
+        final PipelineStep<Integer, Integer> step = e -> {
+            invocations.incrementAndGet();
+            e.accept((e.get() * 10) + version.get());
+        };
+        final CachedStep<Integer, Integer> bounded = Steps.cached(
+                i -> i, step, CachePolicy.defaults().withMaximumWeight(2L));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testCachedStep", p -> p.addStep("cached", bounded), PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("testCachedStep", 10, pipeline.execute(1).get().intValue());
+            Assert.assertEquals("testCachedStep", 10, pipeline.execute(1).get().intValue());
+            Assert.assertEquals("testCachedStep", 1, invocations.get());
+            Assert.assertEquals("testCachedStep", 1L, bounded.getStats().getHits());
+            Assert.assertEquals("testCachedStep", 1L, bounded.getStats().getMisses());
+            for (int i = 2; i <= 6; i++) {
+                Assert.assertEquals("testCachedStep", i * 10, pipeline.execute(i).get().intValue());
+            }
+            Assert.assertEquals("testCachedStep", 4L, bounded.getStats().getEvictions());
+        }
+        final CachedStep<Integer, Integer> nullKeys = Steps.cached(i -> null, step, CachePolicy.defaults());
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testCachedStep", p -> p.addStep("cached", nullKeys), PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("testCachedStep", 30, pipeline.execute(3).get().intValue());
+            Assert.assertEquals("testCachedStep", 30, pipeline.execute(4).get().intValue());
+            Assert.assertEquals("testCachedStep", 1L, nullKeys.getStats().getHits());
+        }
+        final CachedStep<Integer, Integer> refreshing = Steps.cached(
+                i -> i, step, CachePolicy.defaults().withRefreshAfterWrite(20L, TimeUnit.MILLISECONDS));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testCachedStep", p -> p.addStep("cached", refreshing), PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("testCachedStep", 70, pipeline.execute(7).get().intValue());
+            version.set(1);
+            sleepQuietly(40L);
+            Assert.assertEquals("testCachedStep", 70, pipeline.execute(7).get().intValue());
+            sleepQuietly(40L);
+            Assert.assertEquals("testCachedStep", 71, pipeline.execute(7).get().intValue());
+            Assert.assertEquals("testCachedStep", 1L, refreshing.getStats().getMisses());
+            Assert.assertEquals("testCachedStep", 2L, refreshing.getStats().getRefreshes());
+        }
+        final CachedStep<Integer, Integer> expiring = Steps.cached(
+                i -> i, step, CachePolicy.defaults().withExpireAfterWrite(20L, TimeUnit.MILLISECONDS));
+        try (final Pipeline<Integer, Integer> pipeline = Pipeline.build(
+                "testCachedStep", p -> p.addStep("cached", expiring), PIPELINE_EXECUTOR)) {
+            Assert.assertEquals("testCachedStep", 81, pipeline.execute(8).get().intValue());
+            version.set(2);
+            sleepQuietly(40L);
+            Assert.assertEquals("testCachedStep", 82, pipeline.execute(8).get().intValue());
+            Assert.assertEquals("testCachedStep", 2L, expiring.getStats().getMisses());
+            Assert.assertEquals("testCachedStep", 1L, expiring.getStats().getExpirations());
+        }
+    }
+
+    private static void sleepQuietly(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static final class IntToLongStep implements PipelineStep<Integer, Long>, Runnable {
         private static final IntToLongStep INSTANCE = new IntToLongStep();
 
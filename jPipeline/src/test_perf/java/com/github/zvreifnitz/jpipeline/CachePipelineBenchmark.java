@@ -0,0 +1,75 @@
+package com.github.zvreifnitz.jpipeline;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class CachePipelineBenchmark {
+
+    private static final int KEYS_MASK = (1 << 16) - 1;
+
+    private ForkJoinPool forkJoinPool;
+    private Pipeline<Integer, Double> pipeline;
+    private int[] keys;
+    private int index;
+    @Param({"0", "1024"})
+    private long maximumSize;
+    @Param({"65536"})
+    private int keySpace;
+    @Param({"0.99"})
+    private double skew;
+    @Param({"4"})
+    private int threads;
+    @Param({"64"})
+    private int runs;
+
+    @Setup
+    public void setup() {
+        this.forkJoinPool = new ForkJoinPool(this.threads);
+        this.pipeline = PipelineMethods.buildCachedPipeline(
+                this.forkJoinPool, this.maximumSize, TimeUnit.MICROSECONDS.toNanos(10L));
+        this.keys = PipelineMethods.zipfianKeys(KEYS_MASK + 1, this.keySpace, this.skew);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pipeline.close();
+        this.forkJoinPool.shutdownNow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineMany() {
+        final List<Future<Double>> futures = new ArrayList<>(this.runs);
+        for (int i = 0; i < this.runs; i++) {
+            futures.add(this.pipeline.execute(this.keys[this.index++ & KEYS_MASK]));
+        }
+        return futures.stream().mapToDouble(PipelineMethods::getResult).sum();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(4)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineManyConcurrent() {
+        final List<Future<Double>> futures = new ArrayList<>(this.runs);
+        for (int i = 0; i < this.runs; i++) {
+            futures.add(this.pipeline.execute(this.keys[ThreadLocalRandom.current().nextInt() & KEYS_MASK]));
+        }
+        return futures.stream().mapToDouble(PipelineMethods::getResult).sum();
+    }
+}
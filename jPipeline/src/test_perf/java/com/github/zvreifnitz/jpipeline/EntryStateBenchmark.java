@@ -0,0 +1,85 @@
+package com.github.zvreifnitz.jpipeline;
+
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutors;
+import com.github.zvreifnitz.jpipeline.pipeline.Finalizer;
+import com.github.zvreifnitz.jpipeline.runnable.RunnableFactory;
+import com.github.zvreifnitz.jpipeline.runnable.impl.RunnableFactories;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+public class EntryStateBenchmark {
+
+    private final RunId runId = RunId.of("bench");
+    private final ResultFinalizer finalizer = new ResultFinalizer();
+    private PipelineExecutor executor;
+    private RunnableFactory<Double, Double> factory;
+    private RunnableFactory<Double, Double> deferred;
+    private PipelineEntry<Double, Double> pending;
+
+    @Setup
+    public void setup() {
+        this.executor = PipelineExecutors.fromExecutor(Runnable::run);
+        this.factory = this.chain(e -> e.accept(e.get() + 1.0));
+        this.deferred = this.chain(e -> this.pending = e);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executor.close();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double acceptInline() {
+        this.factory.create(this.runId, 1.0, this.finalizer).run();
+        return this.finalizer.result;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double acceptHandOff() {
+        this.deferred.create(this.runId, 1.0, this.finalizer).run();
+        PipelineEntry<Double, Double> entry;
+        while ((entry = this.pending) != null) {
+            this.pending = null;
+            entry.accept(entry.get() + 1.0);
+        }
+        return this.finalizer.result;
+    }
+
+    private RunnableFactory<Double, Double> chain(final PipelineStep<Double, Double> step) {
+        RunnableFactory<Double, Double> factory = RunnableFactories.create();
+        for (int i = 0; i < 32; i++) {
+            factory = RunnableFactories.create(this.executor, step, factory);
+        }
+        return factory;
+    }
+
+    private static final class ResultFinalizer implements Finalizer<Double> {
+
+        private double result;
+
+        @Override
+        public final void setResult(final Double result) {
+            this.result = result;
+        }
+
+        @Override
+        public final void setError(final Throwable throwable) {
+            this.result = Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.zvreifnitz.jpipeline;
+
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutor;
+import com.github.zvreifnitz.jpipeline.execution.PipelineExecutors;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class ExecutorBenchmark {
+
+    private ForkJoinPool forkJoinPool;
+    private PipelineExecutor virtualExecutor;
+    private Pipeline<Double, Double> pipeline;
+    @Param({"forkJoin", "virtual"})
+    private String executor;
+    @Param({"cpu", "blocking"})
+    private String workload;
+    @Param({"4"})
+    private int threads;
+    @Param({"64"})
+    private int runs;
+
+    @Setup
+    public void setup() {
+        if ("virtual".equals(this.executor)) {
+            this.virtualExecutor = PipelineExecutors.virtualThreads();
+            this.pipeline = this.buildPipeline(this.virtualExecutor);
+        } else {
+            this.forkJoinPool = new ForkJoinPool(this.threads);
+            this.pipeline = this.buildPipeline(this.forkJoinPool);
+        }
+    }
+
+    private Pipeline<Double, Double> buildPipeline(final Executor executor) {
+        if ("blocking".equals(this.workload)) {
+            return PipelineMethods.buildBlockingPipeline(executor, TimeUnit.MICROSECONDS.toNanos(100L));
+        }
+        return PipelineMethods.buildSequentialPipeline(executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pipeline.close();
+        if (this.virtualExecutor != null) {
+            this.virtualExecutor.close();
+        }
+        if (this.forkJoinPool != null) {
+            this.forkJoinPool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineMany() {
+        final List<Future<Double>> futures = new ArrayList<>(this.runs);
+        for (int i = 0; i < this.runs; i++) {
+            futures.add(this.pipeline.execute(100.0));
+        }
+        return futures.stream().mapToDouble(PipelineMethods::getResult).sum();
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.zvreifnitz.jpipeline;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class NestedPipelineBenchmark {
+
+    private ExecutorService executorService;
+    private Pipeline<Double, Double> pipeline;
+    private final double input = 1.0;
+    @Param({"1", "2", "4"})
+    private int threads;
+
+    @Setup
+    public void setup() {
+        this.executorService = new ForkJoinPool(this.threads);
+        this.pipeline = PipelineMethods.buildNestedPipeline(this.executorService);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pipeline.close();
+        this.executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineSingle() {
+        return PipelineMethods.getResult(this.pipeline.execute(this.input));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineMany() {
+        final List<Future<Double>> futures = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            futures.add(this.pipeline.execute(this.input));
+        }
+        return futures.stream().mapToDouble(PipelineMethods::getResult).sum();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineSingleCompletable() {
+        return PipelineMethods.getResult(this.pipeline.executeCompletable(this.input));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineManyCompletable() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[16];
+        for (int i = 0; i < 16; i++) {
+            futures[i] = this.pipeline.executeCompletable(this.input);
+        }
+        return CompletableFuture.allOf(futures)
+                .thenApply(ignored -> {
+                    double result = 0.0;
+                    for (final CompletableFuture<?> future : futures) {
+                        result += (Double) future.join();
+                    }
+                    return result;
+                })
+                .exceptionally(ignored -> 0.0)
+                .join();
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.zvreifnitz.jpipeline;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class OrderedPipelineBenchmark {
+
+    private ForkJoinPool forkJoinPool;
+    private Pipeline<Double, Double> pipeline;
+    @Param({"0", "64"})
+    private int window;
+    @Param({"4"})
+    private int threads;
+    @Param({"64"})
+    private int runs;
+
+    @Setup
+    public void setup() {
+        this.forkJoinPool = new ForkJoinPool(this.threads);
+        this.pipeline = PipelineMethods.buildOrderedPipeline(
+                this.forkJoinPool, this.window, TimeUnit.MICROSECONDS.toNanos(100L));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pipeline.close();
+        this.forkJoinPool.shutdownNow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineMany() {
+        final List<Future<Double>> futures = new ArrayList<>(this.runs);
+        for (int i = 0; i < this.runs; i++) {
+            futures.add(this.pipeline.execute(100.0));
+        }
+        return futures.stream().mapToDouble(PipelineMethods::getResult).sum();
+    }
+}
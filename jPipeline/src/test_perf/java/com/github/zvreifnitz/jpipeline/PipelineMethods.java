@@ -1,10 +1,18 @@
 package com.github.zvreifnitz.jpipeline;
 
+import com.github.zvreifnitz.jpipeline.pipeline.ExecutionMode;
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineOptions;
+import com.github.zvreifnitz.jpipeline.step.CachePolicy;
+import com.github.zvreifnitz.jpipeline.step.Steps;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 
 import static com.github.zvreifnitz.jpipeline.BuilderHelper.merger;
@@ -70,6 +78,11 @@ public final class PipelineMethods {
     }
 
     public static Pipeline<Double, Double> buildParallelPipeline(final Executor executor) {
+        return buildParallelPipeline(executor, PipelineOptions.defaults());
+    }
+
+    public static Pipeline<Double, Double> buildParallelPipeline(
+            final Executor executor, final PipelineOptions options) {
         final PipelineStep<Double, List<Integer>> initStep = step(i -> new ArrayList<>());
         final BiFunction<Double, List<Integer>, List<Integer>> initMerger = merger();
         final PipelineStep<Double, Integer> calcStep = step(PipelineMethods::numOfSteps);
@@ -111,9 +124,172 @@ public final class PipelineMethods {
                 .addParallelStep(calcStep, calcMerger)
                 .addParallelStep(resultStep, resultMerger)
                 .join();
+        return Pipeline.build("parallel", builder, executor, options);
+    }
+
+    public static Pipeline<Double, Double> buildReducePipeline(final Executor executor) {
+        final PipelineStep<Double, Integer> calcStep = step(PipelineMethods::numOfSteps);
+        final List<PipelineStep<Double, Integer>> calcSteps = new ArrayList<>(30);
+        for (int i = 0; i < 30; i++) {
+            calcSteps.add(calcStep);
+        }
+        final PipelineStep<Integer, Double> resultStep = step(sum -> 30.0 / sum);
+
+        final PipelineBuilder<Double, Double> builder = p -> p
+                .addParallelReduceStep(calcSteps, Integer::sum)
+                .addStep(resultStep);
+        return Pipeline.build(builder, executor);
+    }
+
+    public static Pipeline<Double, Double> buildReplicaPipeline(final Executor executor) {
+        final PipelineStep<Double, Integer> calcStep = step(PipelineMethods::numOfSteps);
+        final PipelineStep<Integer, Double> resultStep = step(sum -> 30.0 / sum);
+
+        final PipelineBuilder<Double, Double> builder = p -> p
+                .addParallelReplicas(30, calcStep, Integer::sum)
+                .addStep(resultStep);
+        return Pipeline.build(builder, executor);
+    }
+
+    public static Pipeline<Double, Double> buildEntryPipeline(final Executor executor, final ExecutionMode mode) {
+        final PipelineStep<Double, Double> step = e -> e.accept(e.get() + 1.0);
+
+        final PipelineBuilder<Double, Double> builder = p -> p
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step)
+                .addStep(step);
+        return Pipeline.build("entry", builder, executor, mode);
+    }
+
+    public static Pipeline<Double, Double> buildNestedPipeline(final Executor executor) {
+        final PipelineStep<Double, Double> step = step(d -> d + 1.0);
+        final BiFunction<Double, Double, Double> merger = merger();
+
+        final PipelineBuilder<Double, Double> seqBuilder = p -> p
+                .addStep("seq_1", step)
+                .addStep("seq_2", step)
+                .addStep("seq_3", step);
+        final PipelineBuilder<Double, Double> parBuilder = p -> p
+                .addParallelStep("par_1", step, merger)
+                .addParallelStep("par_2", step, merger)
+                .addParallelStep("par_3", step, merger)
+                .join();
+        final PipelineBuilder<Double, Double> seqSeqBuilder = p -> p
+                .buildStep("seq_seq_1", seqBuilder)
+                .buildStep("seq_seq_2", seqBuilder)
+                .buildStep("seq_seq_3", seqBuilder);
+        final PipelineBuilder<Double, Double> seqParBuilder = p -> p
+                .buildStep("seq_par_1", parBuilder)
+                .buildStep("seq_par_2", parBuilder)
+                .buildStep("seq_par_3", parBuilder);
+        final PipelineBuilder<Double, Double> parSeqBuilder = p -> p
+                .buildParallelStep("par_seq_1", seqBuilder, merger)
+                .buildParallelStep("par_seq_2", seqBuilder, merger)
+                .buildParallelStep("par_seq_3", seqBuilder, merger)
+                .join();
+        final PipelineBuilder<Double, Double> parParBuilder = p -> p
+                .buildParallelStep("par_par_1", parBuilder, merger)
+                .buildParallelStep("par_par_2", parBuilder, merger)
+                .buildParallelStep("par_par_3", parBuilder, merger)
+                .join();
+
+        final PipelineBuilder<Double, Double> builder = p -> p
+                .buildStep("builder_1", seqSeqBuilder)
+                .buildStep("builder_2", seqParBuilder)
+                .buildStep("builder_3", parSeqBuilder)
+                .buildStep("builder_4", parParBuilder);
+        return Pipeline.build("nested", builder, executor);
+    }
+
+    public static Pipeline<Double, Double> buildBlockingPipeline(final Executor executor, final long blockNanos) {
+        final PipelineStep<Double, Double> blockingStep = step(d -> {
+            LockSupport.parkNanos(blockNanos);
+            return d + 1.0;
+        });
+
+        final PipelineBuilder<Double, Double> builder = p -> p
+                .addStep(blockingStep)
+                .addStep(blockingStep)
+                .addStep(blockingStep)
+                .addStep(blockingStep)
+                .addStep(blockingStep)
+                .addStep(blockingStep)
+                .addStep(blockingStep)
+                .addStep(blockingStep);
         return Pipeline.build(builder, executor);
     }
 
+    public static Pipeline<Double, Double> buildOrderedPipeline(
+            final Executor executor, final int window, final long blockNanos) {
+        final PipelineStep<Double, Double> blockingStep = step(d -> {
+            LockSupport.parkNanos(blockNanos);
+            return d + 1.0;
+        });
+
+        final PipelineBuilder<Double, Double> builder = (window > 0)
+                ? p -> p.addOrderedStep(blockingStep, window)
+                : p -> p.addOrderedStep(blockingStep);
+        return Pipeline.build(builder, executor);
+    }
+
+    public static Pipeline<Integer, Double> buildCachedPipeline(
+            final Executor executor, final long maximumSize, final long blockNanos) {
+        final PipelineStep<Integer, Double> blockingStep = step(i -> {
+            LockSupport.parkNanos(blockNanos);
+            return i + 1.0;
+        });
+
+        final PipelineBuilder<Integer, Double> builder = (maximumSize > 0L)
+                ? p -> p.addStep(Steps.cached(i -> i, blockingStep, CachePolicy.defaults().withMaximumWeight(maximumSize)))
+                : p -> p.addStep(blockingStep);
+        return Pipeline.build(builder, executor);
+    }
+
+    public static int[] zipfianKeys(final int count, final int keySpace, final double skew) {
+        final double[] cdf = new double[keySpace];
+        double sum = 0.0;
+        for (int i = 0; i < keySpace; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        final Random random = new Random(42L);
+        final int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            final int index = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            keys[i] = Math.min(keySpace - 1, (index >= 0) ? index : -index - 1);
+        }
+        return keys;
+    }
+
     public static int numOfSteps(final double limit) {
         int result = 0;
         double sum = 0.0;
@@ -0,0 +1,61 @@
+package com.github.zvreifnitz.jpipeline;
+
+import com.github.zvreifnitz.jpipeline.pipeline.PipelineOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class RecyclingPipelineBenchmark {
+
+    private ExecutorService executorService;
+    private Pipeline<Double, Double> pipeline;
+    @Param({"false", "true"})
+    private boolean recycling;
+    @Param({"1", "4"})
+    private int threads;
+
+    @Setup
+    public void setup() {
+        this.executorService = new ForkJoinPool(this.threads);
+        this.pipeline = PipelineMethods.buildParallelPipeline(
+                this.executorService, PipelineOptions.defaults().withRecycling(this.recycling));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pipeline.close();
+        this.executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineSingle() {
+        return PipelineMethods.getResult(this.pipeline.execute(1.0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineMany() {
+        final List<Future<Double>> futures = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            futures.add(this.pipeline.execute(1.0));
+        }
+        return futures.stream().mapToDouble(PipelineMethods::getResult).sum();
+    }
+}
@@ -4,6 +4,7 @@ import org.openjdk.jmh.annotations.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
@@ -56,4 +57,39 @@ public class SequentialPipelineBenchmark {
         }
         return futures.stream().mapToDouble(PipelineMethods::getResult).sum();
     }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineSingleCompletable() {
+        return PipelineMethods.getResult(this.pipeline.executeCompletable(this.input));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(1)
+    @BenchmarkMode({Mode.Throughput})
+    public double pipelineManyCompletable() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[16];
+        for (int i = 0; i < 16; i++) {
+            futures[i] = this.pipeline.executeCompletable(this.input);
+        }
+        return CompletableFuture.allOf(futures)
+                .thenApply(ignored -> {
+                    double result = 0.0;
+                    for (final CompletableFuture<?> future : futures) {
+                        result += (Double) future.join();
+                    }
+                    return result;
+                })
+                .exceptionally(ignored -> 0.0)
+                .join();
+    }
 }
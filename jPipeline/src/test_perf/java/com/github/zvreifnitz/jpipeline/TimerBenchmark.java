@@ -0,0 +1,88 @@
+package com.github.zvreifnitz.jpipeline;
+
+import com.github.zvreifnitz.jpipeline.execution.HashedWheelTimer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.*;
+
+@State(Scope.Benchmark)
+public class TimerBenchmark {
+
+    private static final int TASKS = 1000;
+
+    private ExecutorService executorService;
+    private HashedWheelTimer wheelTimer;
+    private Timer timer;
+    private ScheduledThreadPoolExecutor scheduledExecutor;
+    @Param({"wheel", "timer", "scheduled"})
+    private String scheduler;
+    @Param({"1", "10"})
+    private long delayMillis;
+
+    @Setup
+    public void setup() {
+        this.executorService = new ForkJoinPool(4);
+        this.wheelTimer = new HashedWheelTimer("benchmark-timer", 1L, TimeUnit.MILLISECONDS, 1024);
+        this.timer = new Timer(true);
+        this.scheduledExecutor = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.wheelTimer.close();
+        this.timer.cancel();
+        this.scheduledExecutor.shutdownNow();
+        this.executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 4, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Fork(value = 1, warmups = 0, jvmArgsAppend = {"-XX:-RestrictContended", "-XX:+PreserveFramePointer"})
+    @Threads(4)
+    @BenchmarkMode({Mode.Throughput})
+    @OperationsPerInvocation(TASKS)
+    public long delayedRetries() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(TASKS);
+        final Runnable retry = latch::countDown;
+        for (int i = 0; i < TASKS; i++) {
+            this.schedule(retry);
+        }
+        latch.await();
+        return latch.getCount();
+    }
+
+    private void schedule(final Runnable retry) {
+        switch (this.scheduler) {
+            case "wheel":
+                this.wheelTimer.schedule(this.executorService, retry, this.delayMillis, TimeUnit.MILLISECONDS);
+                break;
+            case "timer":
+                this.timer.schedule(new DelayTask(this.executorService, retry), this.delayMillis);
+                break;
+            default:
+                this.scheduledExecutor.schedule(
+                        () -> this.executorService.execute(retry), this.delayMillis, TimeUnit.MILLISECONDS);
+                break;
+        }
+    }
+
+    private static final class DelayTask extends TimerTask {
+
+        private final Executor executor;
+        private final Runnable runnable;
+
+        private DelayTask(final Executor executor, final Runnable runnable) {
+            this.executor = executor;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public final void run() {
+            this.executor.execute(this.runnable);
+        }
+    }
+}